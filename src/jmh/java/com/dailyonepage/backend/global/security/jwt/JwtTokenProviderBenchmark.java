@@ -0,0 +1,80 @@
+package com.dailyonepage.backend.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter가 요청마다 수행하는 토큰 검증 비용 비교
+ *
+ * - perCallParser: 변경 전 (파싱마다 파서 생성, 요청당 2회 파싱)
+ * - reusedParser: 파서 재사용, 요청당 2회 파싱
+ * - cachedProvider: 현재 JwtTokenProvider (파서 재사용 + 검증된 Claims 캐시)
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-256-bits-long-for-hs256";
+
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpiration(1_800_000);
+        properties.setRefreshTokenExpiration(604_800_000);
+
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(properties);
+        jwtKeyRing.init();
+
+        jwtTokenProvider = new JwtTokenProvider(properties, jwtKeyRing, email -> {
+            throw new IllegalStateException("userId 클레임이 있는 토큰은 DB 조회를 하지 않음");
+        }, new SimpleMeterRegistry());
+        jwtTokenProvider.init();
+
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        token = jwtTokenProvider.createAccessToken(1L, "bench@dailyonepage.com");
+    }
+
+    @Benchmark
+    public void perCallParser(Blackhole blackhole) {
+        // validateToken
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload());
+        // getAuthentication → getEmailFromToken
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        blackhole.consume(claims.getSubject());
+    }
+
+    @Benchmark
+    public void reusedParser(Blackhole blackhole) {
+        blackhole.consume(jwtParser.parseSignedClaims(token).getPayload());
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        blackhole.consume(claims.getSubject());
+    }
+
+    @Benchmark
+    public Authentication cachedProvider() {
+        if (!jwtTokenProvider.validateToken(token)) {
+            throw new IllegalStateException("invalid token");
+        }
+        return jwtTokenProvider.getAuthentication(token);
+    }
+}
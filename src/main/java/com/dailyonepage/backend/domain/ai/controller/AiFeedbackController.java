@@ -3,11 +3,7 @@ package com.dailyonepage.backend.domain.ai.controller;
 import com.dailyonepage.backend.domain.ai.dto.AiFeedbackHistoryResponse;
 import com.dailyonepage.backend.domain.ai.dto.AiFeedbackResponse;
 import com.dailyonepage.backend.domain.ai.service.AiFeedbackService;
-import com.dailyonepage.backend.domain.user.entity.User;
-import com.dailyonepage.backend.domain.user.repository.UserRepository;
 import com.dailyonepage.backend.global.common.ApiResponse;
-import com.dailyonepage.backend.global.exception.BusinessException;
-import com.dailyonepage.backend.global.exception.ErrorCode;
 import com.dailyonepage.backend.global.security.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,7 +27,6 @@ import java.time.LocalDate;
 public class AiFeedbackController {
 
     private final AiFeedbackService aiFeedbackService;
-    private final UserRepository userRepository;
 
     /**
      * 오늘의 AI 피드백 조회 (없으면 자동 생성)
@@ -40,7 +35,7 @@ public class AiFeedbackController {
     @Operation(summary = "오늘의 피드백", description = "오늘의 AI 피드백을 조회합니다. 없으면 어제 데이터 기반으로 자동 생성됩니다.")
     @GetMapping("/today")
     public ResponseEntity<ApiResponse<AiFeedbackResponse>> getTodayFeedback() {
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         AiFeedbackResponse response = aiFeedbackService.getTodayFeedback(userId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -56,7 +51,7 @@ public class AiFeedbackController {
             @RequestParam
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         AiFeedbackResponse response = aiFeedbackService.getFeedbackByDate(userId, date);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -73,18 +68,8 @@ public class AiFeedbackController {
             @Parameter(description = "월", example = "1")
             @RequestParam int month) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         AiFeedbackHistoryResponse response = aiFeedbackService.getFeedbackHistory(userId, year, month);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
-
-    /**
-     * 현재 로그인한 사용자 ID 조회
-     */
-    private Long getCurrentUserId() {
-        String email = SecurityUtil.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        return user.getId();
-    }
 }
@@ -24,7 +24,8 @@ import java.time.LocalDateTime;
 public class AiFeedback {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_feedback_seq")
+    @SequenceGenerator(name = "ai_feedback_seq", sequenceName = "ai_feedback_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -5,12 +5,15 @@ import com.dailyonepage.backend.domain.auth.dto.LogoutRequest;
 import com.dailyonepage.backend.domain.auth.dto.SignupRequest;
 import com.dailyonepage.backend.domain.auth.dto.TokenReissueRequest;
 import com.dailyonepage.backend.domain.auth.dto.TokenResponse;
+import com.dailyonepage.backend.domain.auth.service.AuthRateLimiter;
 import com.dailyonepage.backend.domain.auth.service.AuthService;
 import com.dailyonepage.backend.global.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,14 +28,17 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
 
     /**
      * 회원가입
      * POST /api/auth/signup
      */
-    @Operation(summary = "회원가입", description = "새로운 사용자를 등록합니다.")
+    @Operation(summary = "회원가입", description = "새로운 사용자를 등록합니다. IP당 요청 수가 제한됩니다(429 + Retry-After).")
     @PostMapping("/signup")
-    public ResponseEntity<ApiResponse<Long>> signup(@Valid @RequestBody SignupRequest request) {
+    public ResponseEntity<ApiResponse<Long>> signup(@Valid @RequestBody SignupRequest request,
+                                                    HttpServletRequest httpRequest) {
+        authRateLimiter.checkSignup(httpRequest.getRemoteAddr());
         Long userId = authService.signup(request);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -43,9 +49,11 @@ public class AuthController {
      * 로그인
      * POST /api/auth/login
      */
-    @Operation(summary = "로그인", description = "이메일과 비밀번호로 로그인합니다.")
+    @Operation(summary = "로그인", description = "이메일과 비밀번호로 로그인합니다. IP/이메일당 요청 수가 제한됩니다(429 + Retry-After).")
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                            HttpServletRequest httpRequest) {
+        authRateLimiter.checkLogin(httpRequest.getRemoteAddr(), request.getEmail());
         TokenResponse response = authService.login(request);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -65,10 +73,12 @@ public class AuthController {
      * 로그아웃
      * POST /api/auth/logout
      */
-    @Operation(summary = "로그아웃", description = "Refresh Token을 무효화합니다.")
+    @Operation(summary = "로그아웃", description = "Refresh Token을 무효화합니다. Authorization 헤더의 Access Token도 함께 폐기됩니다.")
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@Valid @RequestBody LogoutRequest request) {
-        authService.logout(request);
+    public ResponseEntity<Void> logout(
+            @Valid @RequestBody LogoutRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        authService.logout(request, authorization);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,73 @@
+package com.dailyonepage.backend.domain.auth.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh Token 저장소 (인메모리)
+ *
+ * Redis 자동 설정이 제외된 local 프로필용 대체 구현
+ * 서버 재시작 시 모든 계열이 사라지므로 다시 로그인해야 한다.
+ */
+@Slf4j
+@Component
+@Profile("local")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, Entry> families = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String familyId, String tokenId, Duration ttl) {
+        families.put(familyId, new Entry(tokenId, expiresAt(ttl)));
+    }
+
+    @Override
+    public RotationResult rotate(String familyId, String presentedTokenId, String newTokenId, Duration ttl) {
+        RotationResult[] result = {RotationResult.NOT_FOUND};
+
+        // compute는 키 단위로 원자적으로 실행됨
+        families.compute(familyId, (key, entry) -> {
+            if (entry == null || entry.isExpired()) {
+                return null;
+            }
+            if (!entry.tokenId().equals(presentedTokenId)) {
+                result[0] = RotationResult.REUSED;
+                return null;
+            }
+            result[0] = RotationResult.ROTATED;
+            return new Entry(newTokenId, expiresAt(ttl));
+        });
+
+        return result[0];
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        families.remove(familyId);
+    }
+
+    /**
+     * 만료된 계열 정리 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        families.values().removeIf(Entry::isExpired);
+    }
+
+    private static long expiresAt(Duration ttl) {
+        return System.currentTimeMillis() + ttl.toMillis();
+    }
+
+    private record Entry(String tokenId, long expiresAt) {
+
+        boolean isExpired() {
+            return expiresAt <= System.currentTimeMillis();
+        }
+    }
+}
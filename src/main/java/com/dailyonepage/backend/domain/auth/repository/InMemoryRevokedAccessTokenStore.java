@@ -0,0 +1,38 @@
+package com.dailyonepage.backend.domain.auth.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 Access Token 저장소 (인메모리, local 프로필용)
+ */
+@Component
+@Profile("local")
+public class InMemoryRevokedAccessTokenStore implements RevokedAccessTokenStore {
+
+    private final Map<String, Long> revokedUntil = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String tokenId, Duration ttl) {
+        revokedUntil.put(tokenId, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revokedUntil.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public Collection<String> findAllRevoked() {
+        long now = System.currentTimeMillis();
+        revokedUntil.values().removeIf(expiresAt -> expiresAt <= now);
+        return List.copyOf(revokedUntil.keySet());
+    }
+}
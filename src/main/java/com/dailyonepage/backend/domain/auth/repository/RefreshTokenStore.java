@@ -0,0 +1,38 @@
+package com.dailyonepage.backend.domain.auth.repository;
+
+import java.time.Duration;
+
+/**
+ * Refresh Token 저장소
+ *
+ * 로그인 1회마다 계열(family)을 만들고, 계열별로 "현재 유효한 토큰 ID" 하나만 보관한다.
+ * - 재발급(rotate): 제출된 토큰 ID가 현재 값과 같을 때만 새 토큰 ID로 교체
+ * - 재사용 감지: 이미 교체된(이전) 토큰이 다시 제출되면 계열 전체를 폐기
+ * - 로그아웃(revoke): 계열 삭제
+ *
+ * 모든 연산은 계열 ID 키 하나에 대한 O(1) 조회/갱신이며, 만료는 TTL로 처리한다.
+ * 구현체: RedisRefreshTokenStore (dev/prod), InMemoryRefreshTokenStore (local)
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 새 계열 저장 (로그인)
+     */
+    void save(String familyId, String tokenId, Duration ttl);
+
+    /**
+     * 토큰 교체 (재발급)
+     */
+    RotationResult rotate(String familyId, String presentedTokenId, String newTokenId, Duration ttl);
+
+    /**
+     * 계열 폐기 (로그아웃)
+     */
+    void revoke(String familyId);
+
+    enum RotationResult {
+        ROTATED,    // 정상 교체
+        REUSED,     // 이전 토큰 재사용 감지 → 계열 폐기됨
+        NOT_FOUND   // 로그아웃/만료/폐기된 계열
+    }
+}
@@ -0,0 +1,23 @@
+package com.dailyonepage.backend.domain.auth.repository;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 폐기된 Access Token 저장소 (denylist의 원본 데이터)
+ *
+ * 토큰 ID(jti)를 남은 유효 시간만큼만 보관한다. (만료된 토큰은 어차피 검증에서 걸러짐)
+ * 요청마다 조회하지 않고, AccessTokenDenylist의 Bloom Filter가 양성일 때만 조회된다.
+ * 구현체: RedisRevokedAccessTokenStore (dev/prod), InMemoryRevokedAccessTokenStore (local)
+ */
+public interface RevokedAccessTokenStore {
+
+    void revoke(String tokenId, Duration ttl);
+
+    boolean isRevoked(String tokenId);
+
+    /**
+     * 현재 폐기 상태인 모든 토큰 ID (Bloom Filter 재구성용)
+     */
+    Collection<String> findAllRevoked();
+}
@@ -0,0 +1,59 @@
+package com.dailyonepage.backend.domain.auth.service;
+
+import com.dailyonepage.backend.global.ratelimit.RateLimitExceededException;
+import com.dailyonepage.backend.global.ratelimit.RateLimitProperties;
+import com.dailyonepage.backend.global.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 로그인/회원가입 요청 제한
+ *
+ * AuthService 호출 전에 검사해 credential stuffing이 BCrypt 연산과 DB 조회로 이어지지 않게 한다.
+ * - 로그인: IP당 + 이메일당
+ * - 회원가입: IP당
+ * clientIp는 request.getRemoteAddr() (server.forward-headers-strategy=native로 신뢰 프록시의 X-Forwarded-For 반영)
+ *
+ * 메트릭: auth.rate_limit.rejected{bucket=login_ip|login_email|signup_ip}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthRateLimiter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public void checkLogin(String clientIp, String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        check("login_ip", "login:ip:" + clientIp, properties.getLoginPerIp());
+        check("login_email", "login:email:" + normalize(email), properties.getLoginPerEmail());
+    }
+
+    public void checkSignup(String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        check("signup_ip", "signup:ip:" + clientIp, properties.getSignupPerIp());
+    }
+
+    private void check(String bucketName, String key, RateLimitProperties.Bucket policy) {
+        long retryAfterMillis = rateLimiter.tryConsume(key, policy);
+        if (retryAfterMillis > 0) {
+            meterRegistry.counter("auth.rate_limit.rejected", "bucket", bucketName).increment();
+            log.warn("요청 제한 초과: bucket={}, key={}", bucketName, key);
+            throw new RateLimitExceededException(retryAfterMillis);
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
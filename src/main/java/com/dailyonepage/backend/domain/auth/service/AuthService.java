@@ -5,47 +5,75 @@ import com.dailyonepage.backend.domain.auth.dto.LogoutRequest;
 import com.dailyonepage.backend.domain.auth.dto.SignupRequest;
 import com.dailyonepage.backend.domain.auth.dto.TokenReissueRequest;
 import com.dailyonepage.backend.domain.auth.dto.TokenResponse;
+import com.dailyonepage.backend.domain.auth.repository.RefreshTokenStore;
+import com.dailyonepage.backend.domain.auth.repository.RefreshTokenStore.RotationResult;
 import com.dailyonepage.backend.domain.user.entity.User;
 import com.dailyonepage.backend.domain.user.repository.UserRepository;
 import com.dailyonepage.backend.global.exception.BusinessException;
 import com.dailyonepage.backend.global.exception.ErrorCode;
+import com.dailyonepage.backend.global.security.PasswordHasher;
+import com.dailyonepage.backend.global.security.jwt.AccessTokenDenylist;
 import com.dailyonepage.backend.global.security.jwt.JwtProperties;
 import com.dailyonepage.backend.global.security.jwt.JwtTokenProvider;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
 
 /**
  * 인증 서비스
- * 회원가입, 로그인, 토큰 재발급 로직 처리
+ * 회원가입, 로그인, 토큰 재발급, 로그아웃 로직 처리
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtProperties jwtProperties;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final TransactionTemplate transactionTemplate;
+
+    public AuthService(UserRepository userRepository,
+                       PasswordHasher passwordHasher,
+                       JwtTokenProvider jwtTokenProvider,
+                       JwtProperties jwtProperties,
+                       RefreshTokenStore refreshTokenStore,
+                       AccessTokenDenylist accessTokenDenylist,
+                       PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtProperties = jwtProperties;
+        this.refreshTokenStore = refreshTokenStore;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 회원가입
+     * 해싱(최대 hashing-timeout 대기) 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 처리한다.
+     * (중복 체크/저장은 각각 리포지토리 트랜잭션, 동시 가입은 email 유니크 제약이 막음)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long signup(SignupRequest request) {
         // 이메일 중복 체크
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
         }
 
-        // 비밀번호 암호화 후 저장
+        // 비밀번호 암호화 후 저장 (해싱 전용 풀에서 실행, 포화 시 503)
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHasher.encode(request.getPassword()))
                 .nickname(request.getNickname())
                 .build();
 
@@ -57,79 +85,145 @@ public class AuthService {
 
     /**
      * 로그인
+     * 저장된 해시가 현재 정책(비용, 인코딩)보다 약하면 검증에 성공한 평문으로 다시 해싱한다.
+     *
+     * 검증/재해싱(해싱 풀 대기 포함 최대 hashing-timeout)은 트랜잭션 밖에서 하고,
+     * 재해싱한 경우에만 짧은 쓰기 트랜잭션으로 저장한다. (해싱 중 DB 커넥션을 잡지 않음)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse login(LoginRequest request) {
         // 사용자 조회
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 비밀번호 검증 (해싱 전용 풀에서 실행, 포화 시 503)
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD);
         }
 
-        // 토큰 발급
-        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
+        // 약한 해시 업그레이드
+        if (passwordHasher.upgradeEncoding(user.getPassword())) {
+            upgradePassword(user.getId(), user.getPassword(), passwordHasher.encode(request.getPassword()));
+            log.info("비밀번호 해시 업그레이드: {}", user.getEmail());
+        }
+
+        // 토큰 발급 (새 Refresh Token 계열 시작)
+        TokenResponse response = issueTokens(user.getId(), user.getEmail(), UUID.randomUUID().toString(), null);
 
         log.info("로그인 성공: {}", user.getEmail());
 
-        return TokenResponse.of(
-                accessToken,
-                refreshToken,
-                jwtProperties.getAccessTokenExpiration()
-        );
+        return response;
     }
 
     /**
      * 토큰 재발급 (Refresh Token으로 새 Access Token 발급)
+     *
+     * Refresh Token은 1회용: 재발급할 때마다 새 토큰으로 교체(rotation)된다.
+     * 이미 교체된 이전 토큰이 다시 들어오면 탈취로 보고 계열 전체를 폐기한다.
+     * (DB 조회 없이 토큰 클레임 + RefreshTokenStore만 사용)
      */
     public TokenResponse reissue(TokenReissueRequest request) {
         String refreshToken = request.getRefreshToken();
 
         // Refresh Token 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        if (!jwtTokenProvider.validateToken(refreshToken) || !jwtTokenProvider.isRefreshToken(refreshToken)) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
 
-        // 토큰에서 이메일 추출
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
-
-        // 사용자 존재 확인
-        if (!userRepository.existsByEmail(email)) {
-            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        // 계열 ID가 없는 이전 버전 토큰은 교체 이력을 확인할 수 없으므로 다시 로그인
+        String familyId = jwtTokenProvider.getFamilyId(refreshToken);
+        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+        if (familyId == null || userId == null) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
 
-        // 새 토큰 발급
-        String newAccessToken = jwtTokenProvider.createAccessToken(email);
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(email);
+        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
+        TokenResponse response = issueTokens(userId, email, familyId, jwtTokenProvider.getTokenId(refreshToken));
 
         log.info("토큰 재발급 완료: {}", email);
 
-        return TokenResponse.of(
-                newAccessToken,
-                newRefreshToken,
-                jwtProperties.getAccessTokenExpiration()
-        );
+        return response;
     }
 
     /**
      * 로그아웃
-     * Refresh Token 무효화 (현재는 stateless이므로 클라이언트에서 토큰 삭제)
-     * TODO: Redis 도입 시 Refresh Token 블랙리스트 추가
+     * Refresh Token 계열을 폐기하여 이후 재발급을 막고,
+     * 함께 전달된 Access Token은 남은 유효 시간 동안 denylist에 등록한다.
+     *
+     * @param authorization Authorization 헤더 값 (없으면 Access Token 폐기 생략)
      */
-    public void logout(LogoutRequest request) {
+    public void logout(LogoutRequest request, String authorization) {
         String refreshToken = request.getRefreshToken();
 
         // Refresh Token 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        if (!jwtTokenProvider.validateToken(refreshToken) || !jwtTokenProvider.isRefreshToken(refreshToken)) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
 
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
-        log.info("로그아웃 완료: {}", email);
+        String familyId = jwtTokenProvider.getFamilyId(refreshToken);
+        if (familyId != null) {
+            refreshTokenStore.revoke(familyId);
+        }
+
+        revokeAccessToken(jwtTokenProvider.resolveToken(authorization));
+
+        log.info("로그아웃 완료: {}", jwtTokenProvider.getEmailFromToken(refreshToken));
+    }
 
-        // TODO: Redis에 Refresh Token 블랙리스트 추가
-        // redisTemplate.opsForValue().set("blacklist:" + refreshToken, "logout", refreshTokenExpiration);
+    /**
+     * 재해싱한 비밀번호 저장 (변경 감지로 UPDATE)
+     * 검증 이후 비밀번호가 바뀌었으면 새 비밀번호를 덮어쓰지 않도록 건너뛴다.
+     */
+    private void upgradePassword(Long userId, String verifiedHash, String upgradedHash) {
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId)
+                .filter(user -> user.getPassword().equals(verifiedHash))
+                .ifPresent(user -> user.updatePassword(upgradedHash)));
+    }
+
+    /**
+     * Access Token 폐기 (유효하고 jti가 있는 Access Token만)
+     */
+    private void revokeAccessToken(String accessToken) {
+        if (accessToken == null || !jwtTokenProvider.validateToken(accessToken)
+                || jwtTokenProvider.isRefreshToken(accessToken)) {
+            return;
+        }
+
+        String tokenId = jwtTokenProvider.getTokenId(accessToken);
+        if (tokenId != null) {
+            accessTokenDenylist.revoke(tokenId, Duration.ofMillis(jwtTokenProvider.getExpiration(accessToken)));
+        }
+    }
+
+    /**
+     * Access/Refresh Token 발급 및 Refresh Token 저장
+     *
+     * @param presentedTokenId null이면 새 계열 저장 (로그인), 아니면 기존 토큰과 교체 (재발급)
+     */
+    private TokenResponse issueTokens(Long userId, String email, String familyId, String presentedTokenId) {
+        String newTokenId = UUID.randomUUID().toString();
+        Duration refreshTtl = Duration.ofMillis(jwtProperties.getRefreshTokenExpiration());
+
+        if (presentedTokenId == null) {
+            refreshTokenStore.save(familyId, newTokenId, refreshTtl);
+        } else {
+            RotationResult result = refreshTokenStore.rotate(familyId, presentedTokenId, newTokenId, refreshTtl);
+            if (result == RotationResult.REUSED) {
+                log.warn("Refresh Token 재사용 감지, 계열 폐기: userId={}, familyId={}", userId, familyId);
+                throw new BusinessException(ErrorCode.REFRESH_TOKEN_REUSED);
+            }
+            if (result == RotationResult.NOT_FOUND) {
+                throw new BusinessException(ErrorCode.INVALID_TOKEN);
+            }
+        }
+
+        String accessToken = jwtTokenProvider.createAccessToken(userId, email);
+        String refreshToken = jwtTokenProvider.createRefreshToken(userId, email, familyId, newTokenId);
+
+        return TokenResponse.of(
+                accessToken,
+                refreshToken,
+                jwtProperties.getAccessTokenExpiration()
+        );
     }
 }
@@ -4,16 +4,16 @@ import com.dailyonepage.backend.domain.badge.dto.BadgeSetResponse;
 import com.dailyonepage.backend.domain.badge.dto.MyBadgesResponse;
 import com.dailyonepage.backend.domain.badge.dto.UserBadgeResponse;
 import com.dailyonepage.backend.domain.badge.service.BadgeService;
-import com.dailyonepage.backend.domain.user.entity.User;
-import com.dailyonepage.backend.domain.user.repository.UserRepository;
 import com.dailyonepage.backend.global.common.ApiResponse;
-import com.dailyonepage.backend.global.exception.BusinessException;
-import com.dailyonepage.backend.global.exception.ErrorCode;
+import com.dailyonepage.backend.global.common.CatalogResponseCache;
 import com.dailyonepage.backend.global.security.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,17 +31,19 @@ import java.util.List;
 public class BadgeController {
 
     private final BadgeService badgeService;
-    private final UserRepository userRepository;
+    private final CatalogResponseCache catalogResponseCache;
 
     /**
      * 전체 뱃지세트 조회
      * GET /api/badges
      */
-    @Operation(summary = "전체 뱃지세트 목록", description = "모든 뱃지세트 목록을 조회합니다.")
+    @Operation(summary = "전체 뱃지세트 목록", description = "모든 뱃지세트 목록을 조회합니다. (ETag 지원, If-None-Match 일치 시 304)")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = BadgeSetListApiResponse.class)))
     @GetMapping
-    public ResponseEntity<ApiResponse<List<BadgeSetResponse>>> getAllBadgeSets() {
-        List<BadgeSetResponse> response = badgeService.getAllBadgeSets();
-        return ResponseEntity.ok(ApiResponse.success(response));
+    public ResponseEntity<byte[]> getAllBadgeSets() {
+        return catalogResponseCache.respond(CatalogResponseCache.BADGES + "all", badgeService::getAllBadgeSets);
     }
 
     /**
@@ -51,7 +53,7 @@ public class BadgeController {
     @Operation(summary = "내 뱃지 현황", description = "획득한 뱃지와 진행 중인 뱃지세트를 조회합니다.")
     @GetMapping("/my")
     public ResponseEntity<ApiResponse<MyBadgesResponse>> getMyBadges() {
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         MyBadgesResponse response = badgeService.getMyBadges(userId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -66,7 +68,7 @@ public class BadgeController {
             @Parameter(description = "조회 개수 (기본값: 5)", example = "5")
             @RequestParam(defaultValue = "5") int limit) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         List<UserBadgeResponse> response = badgeService.getRecentBadges(userId, limit);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -75,34 +77,34 @@ public class BadgeController {
      * 시스템 뱃지세트 목록 조회
      * GET /api/badges/sets
      */
-    @Operation(summary = "시스템 뱃지세트 목록", description = "범용으로 사용 가능한 뱃지세트 목록을 조회합니다.")
+    @Operation(summary = "시스템 뱃지세트 목록", description = "범용으로 사용 가능한 뱃지세트 목록을 조회합니다. (ETag 지원, If-None-Match 일치 시 304)")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = BadgeSetListApiResponse.class)))
     @GetMapping("/sets")
-    public ResponseEntity<ApiResponse<List<BadgeSetResponse>>> getSystemBadgeSets() {
-        List<BadgeSetResponse> response = badgeService.getSystemBadgeSets();
-        return ResponseEntity.ok(ApiResponse.success(response));
+    public ResponseEntity<byte[]> getSystemBadgeSets() {
+        return catalogResponseCache.respond(CatalogResponseCache.BADGES + "sets", badgeService::getSystemBadgeSets);
     }
 
     /**
      * 습관별 적용 가능 뱃지세트 조회
      * GET /api/badges/sets/habit/{habitId}
      */
-    @Operation(summary = "습관별 뱃지세트", description = "특정 습관에 적용 가능한 뱃지세트 목록을 조회합니다.")
+    @Operation(summary = "습관별 뱃지세트", description = "특정 습관에 적용 가능한 뱃지세트 목록을 조회합니다. (ETag 지원, If-None-Match 일치 시 304)")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = BadgeSetListApiResponse.class)))
     @GetMapping("/sets/habit/{habitId}")
-    public ResponseEntity<ApiResponse<List<BadgeSetResponse>>> getBadgeSetsForHabit(
+    public ResponseEntity<byte[]> getBadgeSetsForHabit(
             @Parameter(description = "습관 ID", example = "1")
             @PathVariable Long habitId) {
 
-        List<BadgeSetResponse> response = badgeService.getBadgeSetsForHabit(habitId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return catalogResponseCache.respond(CatalogResponseCache.BADGES + "sets:habit:" + habitId,
+                () -> badgeService.getBadgeSetsForHabit(habitId));
     }
 
-    /**
-     * 현재 로그인한 사용자 ID 조회
-     */
-    private Long getCurrentUserId() {
-        String email = SecurityUtil.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        return user.getId();
+    // OpenAPI 문서용 응답 스키마 (캐시된 JSON 바이트를 그대로 내려 반환 타입에 스키마가 없음)
+    @Schema(name = "ApiResponseListBadgeSetResponse")
+    record BadgeSetListApiResponse(boolean success, List<BadgeSetResponse> data) {
     }
 }
@@ -21,7 +21,7 @@ public class UserBadgeSetResponse {
     @Schema(description = "뱃지세트 이름", example = "스트릭 도전")
     private String badgeSetName;
 
-    @Schema(description = "현재 도전 중인 뱃지")
+    @Schema(description = "현재 도전 중인 뱃지 (모두 획득했으면 null)")
     private BadgeResponse currentBadge;
 
     @Schema(description = "현재 진행 값", example = "5")
@@ -36,9 +36,26 @@ public class UserBadgeSetResponse {
     @Schema(description = "시작일시", example = "2025-01-22T10:00:00")
     private LocalDateTime startedAt;
 
+    /**
+     * 진행 값은 습관의 현재 스트릭 (userHabit을 함께 조회해야 함)
+     */
     public static UserBadgeSetResponse from(UserBadgeSet userBadgeSet) {
+        int currentValue = userBadgeSet.getUserHabit().getCurrentStreak();
+
+        // 세트의 모든 뱃지를 획득함
+        if (userBadgeSet.isCompleted()) {
+            return UserBadgeSetResponse.builder()
+                    .id(userBadgeSet.getId())
+                    .badgeSetName(userBadgeSet.getBadgeSet().getName())
+                    .currentBadge(null)
+                    .currentValue(currentValue)
+                    .remainingValue(0)
+                    .progressPercent(100)
+                    .startedAt(userBadgeSet.getCreatedAt())
+                    .build();
+        }
+
         int conditionValue = userBadgeSet.getCurrentBadge().getConditionValue();
-        int currentValue = userBadgeSet.getCurrentValue();
         int remaining = Math.max(0, conditionValue - currentValue);
         int progress = (int) ((double) currentValue / conditionValue * 100);
 
@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class Badge {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "badge_seq")
+    @SequenceGenerator(name = "badge_seq", sequenceName = "badge_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,83 @@
+package com.dailyonepage.backend.domain.badge.entity;
+
+import com.dailyonepage.backend.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 뱃지 진행 백필 체크포인트 (실행 ID × 파티션)
+ *
+ * 파티션은 user_habit ID 구간 (fromId, toId] 이고,
+ * 청크를 커밋할 때마다 같은 트랜잭션에서 lastProcessedId를 올린다.
+ * → 중단 후 같은 실행 ID로 다시 돌리면 마지막으로 커밋된 청크 다음부터 이어서 처리한다.
+ */
+@Entity
+@Table(name = "badge_backfill_checkpoint",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"run_id", "partition_no"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BadgeBackfillCheckpoint extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "badge_backfill_checkpoint_seq")
+    @SequenceGenerator(name = "badge_backfill_checkpoint_seq", sequenceName = "badge_backfill_checkpoint_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false, length = 64)
+    private String runId;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    /**
+     * 구간 시작 (이 ID는 포함하지 않음)
+     */
+    @Column(name = "from_id", nullable = false)
+    private long fromId;
+
+    /**
+     * 구간 끝 (포함)
+     */
+    @Column(name = "to_id", nullable = false)
+    private long toId;
+
+    /**
+     * 마지막으로 커밋된 user_habit ID
+     */
+    @Column(name = "last_processed_id", nullable = false)
+    private long lastProcessedId;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount = 0;
+
+    @Column(name = "awarded_count", nullable = false)
+    private long awardedCount = 0;
+
+    @Column(nullable = false)
+    private boolean completed = false;
+
+    @Builder
+    public BadgeBackfillCheckpoint(String runId, int partitionNo, long fromId, long toId) {
+        this.runId = runId;
+        this.partitionNo = partitionNo;
+        this.fromId = fromId;
+        this.toId = toId;
+        this.lastProcessedId = fromId;
+    }
+
+    /**
+     * 청크 처리 결과 반영
+     */
+    public void advance(long lastProcessedId, int processed, int awarded) {
+        this.lastProcessedId = lastProcessedId;
+        this.processedCount += processed;
+        this.awardedCount += awarded;
+    }
+
+    public void complete() {
+        this.completed = true;
+    }
+}
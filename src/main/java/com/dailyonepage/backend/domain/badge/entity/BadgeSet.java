@@ -29,7 +29,8 @@ import java.util.List;
 public class BadgeSet {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "badge_set_seq")
+    @SequenceGenerator(name = "badge_set_seq", sequenceName = "badge_set_seq", allocationSize = 50)
     private Long id;
 
     /**
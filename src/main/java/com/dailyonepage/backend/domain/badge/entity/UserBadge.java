@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
 public class UserBadge {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_badge_seq")
+    @SequenceGenerator(name = "user_badge_seq", sequenceName = "user_badge_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -47,12 +48,15 @@ public class UserBadge {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * @param completedAt 획득 시점 (null이면 지금, 과거 기록 백필 시 실제 달성일)
+     */
     @Builder
-    public UserBadge(User user, Badge badge, UserBadgeSet userBadgeSet) {
+    public UserBadge(User user, Badge badge, UserBadgeSet userBadgeSet, LocalDateTime completedAt) {
         this.user = user;
         this.badge = badge;
         this.userBadgeSet = userBadgeSet;
-        this.completedAt = LocalDateTime.now();
+        this.completedAt = completedAt != null ? completedAt : LocalDateTime.now();
         this.createdAt = LocalDateTime.now();
     }
 }
@@ -8,6 +8,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * 사용자별 뱃지세트 진행 상황
@@ -24,7 +25,8 @@ import lombok.NoArgsConstructor;
 public class UserBadgeSet extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_badge_set_seq")
+    @SequenceGenerator(name = "user_badge_set_seq", sequenceName = "user_badge_set_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -40,18 +42,25 @@ public class UserBadgeSet extends BaseTimeEntity {
     private BadgeSet badgeSet;
 
     /**
-     * 현재 진행 중인 뱃지 (다음에 획득할 뱃지)
+     * 현재 진행 중인 뱃지 (다음에 획득할 뱃지, 세트를 모두 달성하면 null)
      */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "current_badge_id", nullable = false)
+    @JoinColumn(name = "current_badge_id")
     private Badge currentBadge;
 
     /**
-     * 현재 진행 값 (예: 현재 스트릭 7일)
+     * 마지막 뱃지 평가 시점의 진행 값 (예: 현재 스트릭 7일)
+     * 조회 응답은 습관의 현재 스트릭을 직접 읽는다. (스트릭 만료 처리는 뱃지 평가를 거치지 않으므로)
      */
     @Column(name = "current_value", nullable = false)
     private int currentValue = 0;
 
+    // 낙관적 락 버전 (같은 습관의 뱃지 진행을 동시에 평가할 때 한쪽 변경이 사라지지 않도록)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Builder
     public UserBadgeSet(User user, UserHabit userHabit, BadgeSet badgeSet, Badge currentBadge) {
         this.user = user;
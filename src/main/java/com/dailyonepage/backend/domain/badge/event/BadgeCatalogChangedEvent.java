@@ -0,0 +1,9 @@
+package com.dailyonepage.backend.domain.badge.event;
+
+/**
+ * 뱃지 정의 카탈로그 재로딩 이벤트 (BadgeCatalog가 DB에서 다시 읽었을 때)
+ *
+ * 뱃지세트 정보가 들어간 응답을 캐시하는 쪽이 각자 구독해 캐시를 비운다.
+ */
+public record BadgeCatalogChangedEvent(int badgeSetCount) {
+}
@@ -0,0 +1,16 @@
+package com.dailyonepage.backend.domain.badge.repository;
+
+import com.dailyonepage.backend.domain.badge.entity.BadgeBackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BadgeBackfillCheckpointRepository extends JpaRepository<BadgeBackfillCheckpoint, Long> {
+
+    // 실행 ID의 파티션별 체크포인트 (재시작용)
+    List<BadgeBackfillCheckpoint> findByRunIdOrderByPartitionNoAsc(String runId);
+
+    // 가장 최근에 시작된 미완료 파티션 (실행 ID 없이 켰을 때 이어서 처리할 실행 찾기)
+    Optional<BadgeBackfillCheckpoint> findFirstByCompletedFalseOrderByCreatedAtDesc();
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BadgeSetRepository extends JpaRepository<BadgeSet, Long> {
@@ -21,6 +22,10 @@ public interface BadgeSetRepository extends JpaRepository<BadgeSet, Long> {
     @Query("SELECT bs FROM BadgeSet bs WHERE bs.user IS NULL AND bs.habit.id = :habitId")
     List<BadgeSet> findSystemBadgeSetsByHabitId(@Param("habitId") Long habitId);
 
+    // 여러 습관의 시스템 뱃지세트 일괄 조회 (시스템 습관 목록용)
+    @Query("SELECT bs FROM BadgeSet bs WHERE bs.user IS NULL AND bs.habit.id IN :habitIds ORDER BY bs.id")
+    List<BadgeSet> findSystemBadgeSetsByHabitIds(@Param("habitIds") Collection<Long> habitIds);
+
     // 습관에 적용될 모든 뱃지세트 (전용 + 범용)
     @Query("SELECT bs FROM BadgeSet bs WHERE bs.user IS NULL " +
             "AND (bs.habit.id = :habitId OR bs.habit IS NULL)")
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
@@ -25,6 +26,10 @@ public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
             "LIMIT :limit")
     List<UserBadge> findRecentBadges(@Param("userId") Long userId, @Param("limit") int limit);
 
+    // 뱃지세트 진행별 이미 획득한 뱃지 ID ([userBadgeSetId, badgeId], 백필 중복 방지용)
+    @Query("SELECT ub.userBadgeSet.id, ub.badge.id FROM UserBadge ub WHERE ub.userBadgeSet.id IN :userBadgeSetIds")
+    List<Object[]> findAwardedBadgeIds(@Param("userBadgeSetIds") Collection<Long> userBadgeSetIds);
+
     // 획득 뱃지 개수
     long countByUserId(Long userId);
 }
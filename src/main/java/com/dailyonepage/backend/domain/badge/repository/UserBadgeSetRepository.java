@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +17,18 @@ public interface UserBadgeSetRepository extends JpaRepository<UserBadgeSet, Long
     // 중복 체크
     boolean existsByUserIdAndUserHabitIdAndBadgeSetId(Long userId, Long userHabitId, Long badgeSetId);
 
-    // 사용자의 모든 진행 중인 뱃지세트 (뱃지 정보와 함께)
+    // 사용자의 모든 뱃지세트 진행 상황 (뱃지 정보와 함께, 완료된 세트는 currentBadge=null)
     @Query("SELECT ubs FROM UserBadgeSet ubs " +
-            "JOIN FETCH ubs.currentBadge " +
+            "LEFT JOIN FETCH ubs.currentBadge " +
             "JOIN FETCH ubs.badgeSet " +
+            "JOIN FETCH ubs.userHabit " +
             "WHERE ubs.user.id = :userId")
     List<UserBadgeSet> findByUserIdWithBadgeInfo(@Param("userId") Long userId);
+
+    // 습관의 뱃지세트 진행 상황 (뱃지 진행 처리용, 뱃지 정의는 BadgeCatalog에서)
+    List<UserBadgeSet> findByUserHabitId(Long userHabitId);
+
+    // 여러 습관의 뱃지세트 진행 상황 (백필 청크용)
+    @Query("SELECT ubs FROM UserBadgeSet ubs WHERE ubs.userHabit.id IN :userHabitIds")
+    List<UserBadgeSet> findByUserHabitIdIn(@Param("userHabitIds") Collection<Long> userHabitIds);
 }
@@ -0,0 +1,408 @@
+package com.dailyonepage.backend.domain.badge.service;
+
+import com.dailyonepage.backend.domain.badge.entity.Badge;
+import com.dailyonepage.backend.domain.badge.entity.BadgeBackfillCheckpoint;
+import com.dailyonepage.backend.domain.badge.entity.UserBadge;
+import com.dailyonepage.backend.domain.badge.entity.UserBadgeSet;
+import com.dailyonepage.backend.domain.badge.repository.BadgeBackfillCheckpointRepository;
+import com.dailyonepage.backend.domain.badge.repository.BadgeRepository;
+import com.dailyonepage.backend.domain.badge.repository.BadgeSetRepository;
+import com.dailyonepage.backend.domain.badge.repository.UserBadgeRepository;
+import com.dailyonepage.backend.domain.badge.repository.UserBadgeSetRepository;
+import com.dailyonepage.backend.domain.habit.entity.UserHabit;
+import com.dailyonepage.backend.domain.habit.repository.HabitLogKey;
+import com.dailyonepage.backend.domain.habit.repository.HabitLogRepository;
+import com.dailyonepage.backend.domain.habit.repository.UserHabitRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 뱃지 진행 백필 (습관 체크 기록 전체로 UserBadgeSet/UserBadge 재구성)
+ *
+ * 습관별 체크 날짜를 처음부터 다시 따라가며 스트릭을 계산하고,
+ * 적용 가능한 뱃지세트(BadgeCatalog)의 조건 값에 처음 도달한 날짜를 획득일(completedAt)로 기록한다.
+ * - user_habit ID 범위를 partitions개로 나눠 동시에 처리
+ * - 각 파티션은 ID keyset 페이지로 chunkSize씩 읽고, 청크 결과와 체크포인트를 한 트랜잭션에 커밋
+ * - 같은 실행 ID로 다시 실행하면 완료되지 않은 파티션만 마지막 체크포인트 다음부터 이어서 처리
+ *   (실행 ID를 비우면 가장 최근의 미완료 실행을 이어서 처리, 없을 때만 새 실행 시작)
+ * - 습관에 연결되지 않은 적용 뱃지세트는 새로 연결 (정의가 추가된 뒤 기존 습관에도 반영)
+ * - 이미 획득한 뱃지는 건너뛰고, 진행 중인 뱃지는 더 뒤로만 이동 (회수하지 않음)
+ * - 진행 값은 습관의 현재 스트릭으로 맞춤
+ * - 실시간 뱃지 진행과 같은 UserBadgeSet을 동시에 고치면 @Version 충돌 → 청크를 다시 읽어 재처리
+ *
+ * 관리 API가 없어 badge.backfill.enabled=true로 기동하면 백그라운드 스레드에서 실행된다.
+ *
+ * 메트릭: badge.backfill.chunk (청크 처리 시간), badge.backfill.habits (처리 습관 수),
+ *        badge.backfill.awarded (획득 처리 뱃지 수)
+ */
+@Slf4j
+@Component
+public class BadgeBackfillJob {
+
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final UserHabitRepository userHabitRepository;
+    private final HabitLogRepository habitLogRepository;
+    private final BadgeSetRepository badgeSetRepository;
+    private final BadgeRepository badgeRepository;
+    private final UserBadgeSetRepository userBadgeSetRepository;
+    private final UserBadgeRepository userBadgeRepository;
+    private final BadgeBackfillCheckpointRepository checkpointRepository;
+    private final BadgeCatalog badgeCatalog;
+    private final BadgeBackfillProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer chunkTimer;
+    private final Counter habitCounter;
+    private final Counter awardedCounter;
+
+    public BadgeBackfillJob(UserHabitRepository userHabitRepository,
+                            HabitLogRepository habitLogRepository,
+                            BadgeSetRepository badgeSetRepository,
+                            BadgeRepository badgeRepository,
+                            UserBadgeSetRepository userBadgeSetRepository,
+                            UserBadgeRepository userBadgeRepository,
+                            BadgeBackfillCheckpointRepository checkpointRepository,
+                            BadgeCatalog badgeCatalog,
+                            BadgeBackfillProperties properties,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.userHabitRepository = userHabitRepository;
+        this.habitLogRepository = habitLogRepository;
+        this.badgeSetRepository = badgeSetRepository;
+        this.badgeRepository = badgeRepository;
+        this.userBadgeSetRepository = userBadgeSetRepository;
+        this.userBadgeRepository = userBadgeRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.badgeCatalog = badgeCatalog;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTimer = Timer.builder("badge.backfill.chunk")
+                .register(meterRegistry);
+        this.habitCounter = Counter.builder("badge.backfill.habits")
+                .register(meterRegistry);
+        this.awardedCounter = Counter.builder("badge.backfill.awarded")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String runId = properties.getRunId() == null || properties.getRunId().isBlank()
+                ? resolveRunId()
+                : properties.getRunId();
+
+        Thread.ofPlatform().name("badge-backfill").daemon(true).start(() -> {
+            try {
+                run(runId);
+            } catch (RuntimeException e) {
+                log.error("뱃지 백필 실패: runId={} (같은 실행 ID로 다시 실행하면 이어서 처리)", runId, e);
+            }
+        });
+    }
+
+    /**
+     * 실행 ID가 지정되지 않았을 때: 가장 최근의 미완료 실행, 없으면 새 실행 ID
+     */
+    private String resolveRunId() {
+        return checkpointRepository.findFirstByCompletedFalseOrderByCreatedAtDesc()
+                .map(BadgeBackfillCheckpoint::getRunId)
+                .orElseGet(() -> LocalDateTime.now().format(RUN_ID_FORMAT));
+    }
+
+    /**
+     * 실행 ID의 백필 실행 (처음이면 파티션 생성, 아니면 미완료 파티션 재개)
+     *
+     * @return 이번 실행에서 처리한 습관 수
+     */
+    public long run(String runId) {
+        List<BadgeBackfillCheckpoint> checkpoints = loadOrCreateCheckpoints(runId);
+        List<BadgeBackfillCheckpoint> pending = checkpoints.stream()
+                .filter(checkpoint -> !checkpoint.isCompleted())
+                .toList();
+        if (pending.isEmpty()) {
+            log.info("뱃지 백필 대상 없음: runId={}, partitions={}", runId, checkpoints.size());
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        AtomicLong processed = new AtomicLong();
+        AtomicLong awarded = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(pending.size())) {
+            for (BadgeBackfillCheckpoint checkpoint : pending) {
+                Long checkpointId = checkpoint.getId();
+                futures.add(executor.submit(() -> runPartition(checkpointId, processed, awarded)));
+            }
+            for (Future<?> future : futures) {
+                await(future);
+            }
+        }
+
+        double seconds = Math.max(1e-3, (System.nanoTime() - startedAt) / 1e9);
+        log.info("뱃지 백필 완료: runId={}, partitions={}, habits={}, awarded={}, {} habits/s",
+                runId, pending.size(), processed.get(), awarded.get(), Math.round(processed.get() / seconds));
+        return processed.get();
+    }
+
+    /**
+     * 기존 체크포인트 조회, 없으면 전체 ID 범위를 나눠 생성
+     */
+    private List<BadgeBackfillCheckpoint> loadOrCreateCheckpoints(String runId) {
+        List<BadgeBackfillCheckpoint> existing = checkpointRepository.findByRunIdOrderByPartitionNoAsc(runId);
+        if (!existing.isEmpty()) {
+            log.info("뱃지 백필 재개: runId={}, partitions={}", runId, existing.size());
+            return existing;
+        }
+
+        List<Object[]> range = userHabitRepository.findIdRange();
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return List.of();
+        }
+        long minId = ((Number) range.get(0)[0]).longValue();
+        long maxId = ((Number) range.get(0)[1]).longValue();
+
+        int partitions = Math.max(1, properties.getPartitions());
+        long span = Math.max(1, (maxId - minId + partitions) / partitions);
+
+        List<BadgeBackfillCheckpoint> created = new ArrayList<>();
+        int partitionNo = 0;
+        for (long from = minId; from <= maxId; from += span) {
+            created.add(BadgeBackfillCheckpoint.builder()
+                    .runId(runId)
+                    .partitionNo(partitionNo++)
+                    .fromId(from - 1)
+                    .toId(Math.min(maxId, from + span - 1))
+                    .build());
+        }
+        log.info("뱃지 백필 시작: runId={}, userHabitIds={}~{}, partitions={}", runId, minId, maxId, created.size());
+        return checkpointRepository.saveAll(created);
+    }
+
+    /**
+     * 파티션 하나를 끝까지 청크 단위로 처리
+     */
+    private void runPartition(Long checkpointId, AtomicLong processed, AtomicLong awarded) {
+        while (true) {
+            ChunkResult chunk = chunkTimer.record(() -> processChunkWithRetry(checkpointId));
+            if (chunk == null) {
+                return;
+            }
+            processed.addAndGet(chunk.processed());
+            awarded.addAndGet(chunk.awarded());
+            habitCounter.increment(chunk.processed());
+            awardedCounter.increment(chunk.awarded());
+            if (chunk.completed()) {
+                return;
+            }
+        }
+    }
+
+    private ChunkResult processChunkWithRetry(Long checkpointId) {
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> processChunk(checkpointId));
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                // 실시간 뱃지 진행과 같은 UserBadgeSet(@Version)/뱃지 획득이 겹친 경우 → 다시 읽어서 재처리
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("뱃지 백필 청크 충돌, 재시도: checkpointId={}, attempt={}", checkpointId, attempt);
+            }
+        }
+    }
+
+    /**
+     * 체크포인트 다음 청크 처리 후 체크포인트 이동 (한 트랜잭션)
+     */
+    private ChunkResult processChunk(Long checkpointId) {
+        BadgeBackfillCheckpoint checkpoint = checkpointRepository.findById(checkpointId).orElseThrow();
+        int chunkSize = properties.getChunkSize();
+
+        List<UserHabit> userHabits = userHabitRepository.findPage(
+                checkpoint.getLastProcessedId(), checkpoint.getToId(), Limit.of(chunkSize));
+        if (userHabits.isEmpty()) {
+            checkpoint.complete();
+            return new ChunkResult(0, 0, true);
+        }
+
+        List<Long> userHabitIds = userHabits.stream().map(UserHabit::getId).toList();
+        Map<Long, List<LocalDate>> checkedDates = loadCheckedDates(userHabitIds);
+        Map<Long, List<UserBadgeSet>> userBadgeSets = loadUserBadgeSets(userHabitIds);
+        Set<AwardKey> alreadyAwarded = loadAwarded(userBadgeSets);
+
+        List<UserBadgeSet> enrolled = new ArrayList<>();
+        List<UserBadge> awards = new ArrayList<>();
+        for (UserHabit userHabit : userHabits) {
+            List<UserBadgeSet> sets = new ArrayList<>(userBadgeSets.getOrDefault(userHabit.getId(), List.of()));
+            List<UserBadgeSet> missing = enrollMissing(userHabit, sets);
+            enrolled.addAll(missing);
+            sets.addAll(missing);
+            List<LocalDate> dates = checkedDates.getOrDefault(userHabit.getId(), List.of());
+            for (UserBadgeSet userBadgeSet : sets) {
+                replay(userHabit, userBadgeSet, dates, alreadyAwarded, awards);
+            }
+        }
+
+        // 새로 연결한 UserBadgeSet을 먼저 저장해야 획득 기록이 참조할 ID가 생김
+        userBadgeSetRepository.saveAll(enrolled);
+        userBadgeRepository.saveAll(awards);
+
+        boolean completed = userHabits.size() < chunkSize;
+        checkpoint.advance(userHabitIds.get(userHabitIds.size() - 1), userHabits.size(), awards.size());
+        if (completed) {
+            checkpoint.complete();
+        }
+        return new ChunkResult(userHabits.size(), awards.size(), completed);
+    }
+
+    /**
+     * 체크 날짜를 순서대로 따라가며 스트릭 재계산 → 조건 값에 처음 도달한 날짜로 획득 기록
+     */
+    private void replay(UserHabit userHabit, UserBadgeSet userBadgeSet, List<LocalDate> dates,
+                        Set<AwardKey> alreadyAwarded, List<UserBadge> awards) {
+        BadgeCatalog.SetEntry set = badgeCatalog.getSet(userBadgeSet.getBadgeSet().getId());
+        if (set == null) {
+            return;
+        }
+
+        int achieved = 0;
+        int streak = 0;
+        LocalDate previous = null;
+        for (LocalDate date : dates) {
+            if (date.equals(previous)) {
+                continue;
+            }
+            streak = previous != null && previous.plusDays(1).equals(date) ? streak + 1 : 1;
+            previous = date;
+
+            int reached = set.achievedCount(streak);
+            for (int i = achieved; i < reached; i++) {
+                Long badgeId = set.badgeIdAt(i);
+                if (userBadgeSet.getId() == null
+                        || !alreadyAwarded.contains(new AwardKey(userBadgeSet.getId(), badgeId))) {
+                    awards.add(UserBadge.builder()
+                            .user(userHabit.getUser())
+                            .badge(badgeReference(badgeId))
+                            .userBadgeSet(userBadgeSet)
+                            .completedAt(date.atStartOfDay())
+                            .build());
+                }
+            }
+            achieved = Math.max(achieved, reached);
+            if (achieved == set.size()) {
+                break;
+            }
+        }
+
+        // 진행 중인 뱃지는 뒤로만 이동 (이미 더 진행된 세트는 그대로)
+        int currentIndex = userBadgeSet.isCompleted()
+                ? set.size()
+                : Math.max(0, set.indexOf(userBadgeSet.getCurrentBadge().getId()));
+        if (achieved > currentIndex) {
+            userBadgeSet.moveToNextBadge(achieved < set.size() ? badgeReference(set.badgeIdAt(achieved)) : null);
+        }
+        userBadgeSet.updateProgress(userHabit.getCurrentStreak());
+    }
+
+    /**
+     * 습관에 적용 가능한 시스템 뱃지세트 중 아직 연결되지 않은 세트 연결 (저장은 호출한 쪽에서 한 번에)
+     */
+    private List<UserBadgeSet> enrollMissing(UserHabit userHabit, List<UserBadgeSet> existing) {
+        Set<Long> enrolledSetIds = new HashSet<>();
+        existing.forEach(userBadgeSet -> enrolledSetIds.add(userBadgeSet.getBadgeSet().getId()));
+
+        List<UserBadgeSet> enrolled = new ArrayList<>();
+        for (BadgeCatalog.SetEntry set : badgeCatalog.getApplicableSets(userHabit.getHabit().getId())) {
+            if (enrolledSetIds.contains(set.badgeSetId())) {
+                continue;
+            }
+            enrolled.add(UserBadgeSet.builder()
+                    .user(userHabit.getUser())
+                    .userHabit(userHabit)
+                    .badgeSet(badgeSetRepository.getReferenceById(set.badgeSetId()))
+                    .currentBadge(badgeReference(set.badgeIdAt(0)))
+                    .build());
+        }
+        return enrolled;
+    }
+
+    private Map<Long, List<LocalDate>> loadCheckedDates(List<Long> userHabitIds) {
+        Map<Long, List<LocalDate>> result = new HashMap<>();
+        for (HabitLogKey key : habitLogRepository.findCheckedKeysByUserHabitIdIn(userHabitIds)) {
+            result.computeIfAbsent(key.userHabitId(), id -> new ArrayList<>()).add(key.date());
+        }
+        return result;
+    }
+
+    private Map<Long, List<UserBadgeSet>> loadUserBadgeSets(List<Long> userHabitIds) {
+        Map<Long, List<UserBadgeSet>> result = new HashMap<>();
+        for (UserBadgeSet userBadgeSet : userBadgeSetRepository.findByUserHabitIdIn(userHabitIds)) {
+            result.computeIfAbsent(userBadgeSet.getUserHabit().getId(), id -> new ArrayList<>()).add(userBadgeSet);
+        }
+        return result;
+    }
+
+    private Set<AwardKey> loadAwarded(Map<Long, List<UserBadgeSet>> userBadgeSets) {
+        List<Long> userBadgeSetIds = userBadgeSets.values().stream()
+                .flatMap(List::stream)
+                .map(UserBadgeSet::getId)
+                .toList();
+        if (userBadgeSetIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<AwardKey> result = new HashSet<>();
+        for (Object[] row : userBadgeRepository.findAwardedBadgeIds(userBadgeSetIds)) {
+            result.add(new AwardKey(((Number) row[0]).longValue(), ((Number) row[1]).longValue()));
+        }
+        return result;
+    }
+
+    private Badge badgeReference(Long badgeId) {
+        return badgeRepository.getReferenceById(badgeId);
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("뱃지 백필 중단", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("뱃지 백필 실패", e.getCause());
+        }
+    }
+
+    private record ChunkResult(int processed, int awarded, boolean completed) {
+    }
+
+    private record AwardKey(Long userBadgeSetId, Long badgeId) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.dailyonepage.backend.domain.badge.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 뱃지 진행 백필 설정값
+ *
+ * application.yml의 badge.backfill.* 를 매핑
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "badge.backfill")
+public class BadgeBackfillProperties {
+
+    // 기동 시 백필 실행 여부 (한 인스턴스에서만 켤 것)
+    private boolean enabled = false;
+
+    // 실행 ID (같은 값으로 다시 켜면 체크포인트부터 이어서 처리,
+    // 비우면 가장 최근의 미완료 실행을 이어서 처리하고 없으면 새 실행 시작)
+    private String runId;
+
+    // 한 트랜잭션에서 처리할 최대 습관 수
+    private int chunkSize = 500;
+
+    // user_habit ID 범위를 나눠 동시에 처리할 파티션 수
+    private int partitions = 4;
+
+    // 청크 충돌(동시 획득 등) 시 최대 시도 횟수
+    private int maxAttempts = 3;
+}
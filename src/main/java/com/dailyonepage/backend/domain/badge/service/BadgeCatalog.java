@@ -0,0 +1,231 @@
+package com.dailyonepage.backend.domain.badge.service;
+
+import com.dailyonepage.backend.domain.badge.entity.Badge;
+import com.dailyonepage.backend.domain.badge.entity.BadgeSet;
+import com.dailyonepage.backend.domain.badge.event.BadgeCatalogChangedEvent;
+import com.dailyonepage.backend.domain.badge.repository.BadgeSetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 뱃지 정의 카탈로그 (읽기 전용 메모리 스냅샷)
+ *
+ * Badge/BadgeSet은 거의 바뀌지 않는 기준 데이터라 기동 시 한 번 읽어 두고,
+ * 뱃지 진행 평가에서는 DB를 조회하지 않는다.
+ * - 세트별 뱃지 ID/조건 값을 순서(sequence)대로 배열로 보관
+ * - "스트릭 N이면 몇 번째 뱃지까지 달성?" = 조건 값 배열 이진 탐색
+ * - 습관별 적용 세트(전용 + 범용) 목록도 미리 계산
+ *
+ * 스냅샷은 통째로 교체되므로(불변 객체 + volatile) 읽기에 락이 필요 없다.
+ *
+ * 뱃지 정의를 바꾸는 API가 없으므로(초기 데이터/DB 직접 수정) 변경 감지 대신
+ * badge.catalog-refresh-interval 주기로 다시 읽는 것을 반영 지연의 상한으로 삼는다.
+ * DB를 직접 고친 뒤 즉시 반영하려면 refresh()를 호출한다.
+ * 다시 읽은 정의가 이전과 다를 때만(내용 해시 비교) BadgeCatalogChangedEvent를 발행하고,
+ * 뱃지세트가 들어간 응답 캐시는 각자 구독해 비운다. (바뀐 것이 없으면 응답 캐시는 TTL까지 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BadgeCatalog {
+
+    private final BadgeSetRepository badgeSetRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * DB에서 다시 읽어 스냅샷 교체 (정의가 바뀌었을 때만 변경 이벤트 발행)
+     */
+    @Scheduled(fixedDelayString = "${badge.catalog-refresh-interval:600000}",
+            initialDelayString = "${badge.catalog-refresh-interval:600000}")
+    public void refresh() {
+        Snapshot loaded = Snapshot.of(badgeSetRepository.findAllWithBadges());
+        Snapshot previous = this.snapshot;
+        this.snapshot = loaded;
+        if (previous != null && previous.fingerprint().equals(loaded.fingerprint())) {
+            log.debug("뱃지 카탈로그 변경 없음: badgeSets={}", loaded.sets().size());
+            return;
+        }
+        eventPublisher.publishEvent(new BadgeCatalogChangedEvent(loaded.sets().size()));
+        log.info("뱃지 카탈로그 로드: badgeSets={}", loaded.sets().size());
+    }
+
+    /**
+     * 세트 정의 (없으면 null)
+     */
+    public SetEntry getSet(Long badgeSetId) {
+        return snapshot().sets().get(badgeSetId);
+    }
+
+    /**
+     * 습관에 적용되는 시스템 뱃지세트 (전용 + 범용, 뱃지가 있는 세트만)
+     */
+    public List<SetEntry> getApplicableSets(Long habitId) {
+        Snapshot current = snapshot();
+        List<SetEntry> dedicated = current.byHabit().getOrDefault(habitId, List.of());
+        if (dedicated.isEmpty()) {
+            return current.universal();
+        }
+        List<SetEntry> applicable = new ArrayList<>(dedicated);
+        applicable.addAll(current.universal());
+        return applicable;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 전체 카탈로그 스냅샷
+     *
+     * fingerprint: 응답에 나가는 정의 필드(세트/뱃지의 ID, 소속, 이름, 설명, 조건, 순서, 아이콘)의 SHA-256
+     */
+    private record Snapshot(Map<Long, SetEntry> sets, Map<Long, List<SetEntry>> byHabit, List<SetEntry> universal,
+                            String fingerprint) {
+
+        static Snapshot of(List<BadgeSet> badgeSets) {
+            Map<Long, SetEntry> sets = new HashMap<>();
+            Map<Long, List<SetEntry>> byHabit = new HashMap<>();
+            List<SetEntry> universal = new ArrayList<>();
+
+            for (BadgeSet badgeSet : badgeSets) {
+                SetEntry entry = SetEntry.of(badgeSet);
+                sets.put(entry.badgeSetId(), entry);
+                if (!badgeSet.isSystem() || entry.size() == 0) {
+                    continue;
+                }
+                if (badgeSet.isUniversal()) {
+                    universal.add(entry);
+                } else {
+                    byHabit.computeIfAbsent(badgeSet.getHabit().getId(), id -> new ArrayList<>()).add(entry);
+                }
+            }
+
+            Map<Long, List<SetEntry>> frozenByHabit = new HashMap<>();
+            byHabit.forEach((habitId, entries) -> frozenByHabit.put(habitId, List.copyOf(entries)));
+            return new Snapshot(Map.copyOf(sets), Map.copyOf(frozenByHabit), List.copyOf(universal),
+                    fingerprint(badgeSets));
+        }
+
+        private static String fingerprint(List<BadgeSet> badgeSets) {
+            StringBuilder content = new StringBuilder();
+            badgeSets.stream()
+                    .sorted(Comparator.comparing(BadgeSet::getId))
+                    .forEach(badgeSet -> {
+                        append(content, badgeSet.getId(),
+                                badgeSet.getUser() == null ? null : badgeSet.getUser().getId(),
+                                badgeSet.getHabit() == null ? null : badgeSet.getHabit().getId(),
+                                badgeSet.getName(), badgeSet.getDescription());
+                        badgeSet.getBadges().stream()
+                                .sorted(Comparator.comparing(Badge::getId))
+                                .forEach(badge -> append(content, badge.getId(), badge.getName(),
+                                        badge.getDescription(), badge.getConditionValue(), badge.getSequence(),
+                                        badge.getIcon()));
+                    });
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256")
+                        .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+            }
+        }
+
+        // 필드 구분은 이름/설명에 들어갈 수 없는 NUL, 항목 구분은 줄바꿈
+        private static void append(StringBuilder content, Object... fields) {
+            for (Object field : fields) {
+                content.append(field).append('\0');
+            }
+            content.append('\n');
+        }
+    }
+
+    /**
+     * 뱃지세트 하나의 정의 (순서대로 정렬된 배열)
+     *
+     * thresholds[i]: i번째 뱃지까지 순서대로 달성하는 데 필요한 값
+     * (조건 값의 누적 최댓값이라 항상 오름차순 → 이진 탐색 가능)
+     */
+    public record SetEntry(Long badgeSetId, long[] badgeIds, int[] thresholds, Map<Long, Integer> indexByBadgeId) {
+
+        static SetEntry of(BadgeSet badgeSet) {
+            List<Badge> badges = badgeSet.getBadges().stream()
+                    .sorted(Comparator.comparingInt(Badge::getSequence))
+                    .toList();
+
+            long[] badgeIds = new long[badges.size()];
+            int[] thresholds = new int[badges.size()];
+            Map<Long, Integer> indexByBadgeId = new HashMap<>();
+            int max = Integer.MIN_VALUE;
+            for (int i = 0; i < badges.size(); i++) {
+                Badge badge = badges.get(i);
+                max = Math.max(max, badge.getConditionValue());
+                badgeIds[i] = badge.getId();
+                thresholds[i] = max;
+                indexByBadgeId.put(badge.getId(), i);
+            }
+            return new SetEntry(badgeSet.getId(), badgeIds, thresholds, Map.copyOf(indexByBadgeId));
+        }
+
+        public int size() {
+            return badgeIds.length;
+        }
+
+        /**
+         * value로 순서대로 달성한 뱃지 수 (thresholds에서 value 이하인 개수)
+         */
+        public int achievedCount(int value) {
+            int index = Arrays.binarySearch(thresholds, value);
+            if (index < 0) {
+                return -index - 1;
+            }
+            // 같은 값이 여러 개면 마지막 것 다음 위치
+            while (index + 1 < thresholds.length && thresholds[index + 1] == value) {
+                index++;
+            }
+            return index + 1;
+        }
+
+        /**
+         * 세트 내 뱃지 위치 (세트에 없는 뱃지면 -1)
+         */
+        public int indexOf(Long badgeId) {
+            return indexByBadgeId.getOrDefault(badgeId, -1);
+        }
+
+        public Long badgeIdAt(int index) {
+            return badgeIds[index];
+        }
+    }
+}
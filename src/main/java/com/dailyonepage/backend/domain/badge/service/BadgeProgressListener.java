@@ -0,0 +1,63 @@
+package com.dailyonepage.backend.domain.badge.service;
+
+import com.dailyonepage.backend.domain.habit.event.StreakChangedEvent;
+import com.dailyonepage.backend.global.config.AsyncConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 스트릭 변경 → 뱃지 진행 연결
+ *
+ * 체크/취소 트랜잭션이 커밋된 뒤에만, 요청 스레드가 아닌 뱃지 전용 풀에서 처리한다.
+ * (롤백된 체크로 뱃지가 주어지지 않고, 뱃지 처리가 느려도 체크 응답은 기다리지 않음)
+ *
+ * 같은 습관의 이벤트가 동시에 처리되면 UserBadgeSet(@Version)/획득 유니크 제약에서 한쪽이 충돌한다.
+ * 충돌한 쪽은 새 트랜잭션으로 최신 상태를 다시 읽어 평가한다. (최대 MAX_ATTEMPTS회)
+ *
+ * 메트릭: badge.progress.retry (재시도 횟수), badge.progress.conflict (소진)
+ */
+@Slf4j
+@Component
+public class BadgeProgressListener {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final BadgeProgressService badgeProgressService;
+    private final Counter retryCounter;
+    private final Counter conflictCounter;
+
+    public BadgeProgressListener(BadgeProgressService badgeProgressService, MeterRegistry meterRegistry) {
+        this.badgeProgressService = badgeProgressService;
+        this.retryCounter = Counter.builder("badge.progress.retry")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder("badge.progress.conflict")
+                .register(meterRegistry);
+    }
+
+    @Async(AsyncConfig.BADGE_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStreakChanged(StreakChangedEvent event) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                badgeProgressService.progress(event.userHabitId());
+                return;
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    conflictCounter.increment();
+                    log.error("뱃지 진행 충돌, 재시도 소진: userId={}, userHabitId={}, attempts={}",
+                            event.userId(), event.userHabitId(), attempt, e);
+                    return;
+                }
+                retryCounter.increment();
+                log.debug("뱃지 진행 충돌, 재시도: userHabitId={}, attempt={}", event.userHabitId(), attempt);
+            }
+        }
+    }
+}
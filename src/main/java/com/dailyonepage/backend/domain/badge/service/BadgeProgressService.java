@@ -0,0 +1,141 @@
+package com.dailyonepage.backend.domain.badge.service;
+
+import com.dailyonepage.backend.domain.badge.entity.Badge;
+import com.dailyonepage.backend.domain.badge.entity.UserBadge;
+import com.dailyonepage.backend.domain.badge.entity.UserBadgeSet;
+import com.dailyonepage.backend.domain.badge.repository.BadgeRepository;
+import com.dailyonepage.backend.domain.badge.repository.BadgeSetRepository;
+import com.dailyonepage.backend.domain.badge.repository.UserBadgeRepository;
+import com.dailyonepage.backend.domain.badge.repository.UserBadgeSetRepository;
+import com.dailyonepage.backend.domain.habit.entity.UserHabit;
+import com.dailyonepage.backend.domain.habit.repository.UserHabitRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 뱃지 진행 처리
+ *
+ * 습관의 현재 스트릭을 UserBadgeSet 진행 값으로 반영하고,
+ * 현재 뱃지의 조건 값(conditionValue)을 넘으면 획득(UserBadge) 후 다음 뱃지로 넘어간다. (순차 달성)
+ * 한 번에 여러 단계를 넘으면 모두 획득하며, 획득 기록은 saveAll로 한 번에 저장한다.
+ *
+ * 뱃지 정의는 BadgeCatalog(메모리)에서 읽고, 엔티티 연결은 getReferenceById 프록시로 해
+ * 평가 중에는 Badge/BadgeSet 조회 쿼리가 나가지 않는다.
+ *
+ * 습관에 UserBadgeSet이 아직 없으면 적용 가능한 시스템 뱃지세트(전용 + 범용)에 먼저 연결한다.
+ * UserBadgeSet은 @Version으로 보호되며, 같은 습관을 동시에 평가하다 충돌하면 호출한 쪽이 다시 실행한다.
+ *
+ * 메트릭: badge.awarded (획득 수)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class BadgeProgressService {
+
+    private final UserHabitRepository userHabitRepository;
+    private final BadgeSetRepository badgeSetRepository;
+    private final BadgeRepository badgeRepository;
+    private final UserBadgeSetRepository userBadgeSetRepository;
+    private final UserBadgeRepository userBadgeRepository;
+    private final BadgeCatalog badgeCatalog;
+    private final Counter awardedCounter;
+
+    public BadgeProgressService(UserHabitRepository userHabitRepository,
+                                BadgeSetRepository badgeSetRepository,
+                                BadgeRepository badgeRepository,
+                                UserBadgeSetRepository userBadgeSetRepository,
+                                UserBadgeRepository userBadgeRepository,
+                                BadgeCatalog badgeCatalog,
+                                MeterRegistry meterRegistry) {
+        this.userHabitRepository = userHabitRepository;
+        this.badgeSetRepository = badgeSetRepository;
+        this.badgeRepository = badgeRepository;
+        this.userBadgeSetRepository = userBadgeSetRepository;
+        this.userBadgeRepository = userBadgeRepository;
+        this.badgeCatalog = badgeCatalog;
+        this.awardedCounter = Counter.builder("badge.awarded")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 습관의 현재 스트릭으로 뱃지 진행 갱신
+     *
+     * @return 새로 획득한 뱃지 수
+     */
+    @Transactional
+    public int progress(Long userHabitId) {
+        UserHabit userHabit = userHabitRepository.findById(userHabitId).orElse(null);
+        if (userHabit == null) {
+            // 처리 전에 습관이 해제됨
+            return 0;
+        }
+
+        List<UserBadgeSet> userBadgeSets = userBadgeSetRepository.findByUserHabitId(userHabitId);
+        if (userBadgeSets.isEmpty()) {
+            userBadgeSets = enroll(userHabit);
+        }
+
+        int streak = userHabit.getCurrentStreak();
+        List<UserBadge> awarded = new ArrayList<>();
+        for (UserBadgeSet userBadgeSet : userBadgeSets) {
+            BadgeCatalog.SetEntry set = badgeCatalog.getSet(userBadgeSet.getBadgeSet().getId());
+            if (set != null && !userBadgeSet.isCompleted()) {
+                advance(userHabit, userBadgeSet, set, streak, awarded);
+            }
+            userBadgeSet.updateProgress(streak);
+        }
+
+        if (!awarded.isEmpty()) {
+            userBadgeRepository.saveAll(awarded);
+            awardedCounter.increment(awarded.size());
+            log.info("뱃지 획득: userId={}, userHabitId={}, streak={}, count={}",
+                    userHabit.getUser().getId(), userHabitId, streak, awarded.size());
+        }
+        return awarded.size();
+    }
+
+    /**
+     * 현재 뱃지부터 streak로 달성한 뱃지까지 획득 처리 후 다음 뱃지로 이동
+     */
+    private void advance(UserHabit userHabit, UserBadgeSet userBadgeSet, BadgeCatalog.SetEntry set,
+                         int streak, List<UserBadge> awarded) {
+        // 프록시의 ID만 읽음 (초기화 쿼리 없음)
+        int currentIndex = set.indexOf(userBadgeSet.getCurrentBadge().getId());
+        int achievedCount = set.achievedCount(streak);
+        if (currentIndex < 0 || achievedCount <= currentIndex) {
+            return;
+        }
+
+        for (int i = currentIndex; i < achievedCount; i++) {
+            awarded.add(UserBadge.builder()
+                    .user(userHabit.getUser())
+                    .badge(badgeRepository.getReferenceById(set.badgeIdAt(i)))
+                    .userBadgeSet(userBadgeSet)
+                    .build());
+        }
+        Badge next = achievedCount < set.size() ? badgeRepository.getReferenceById(set.badgeIdAt(achievedCount)) : null;
+        userBadgeSet.moveToNextBadge(next);
+    }
+
+    /**
+     * 습관에 적용 가능한 시스템 뱃지세트 연결 (첫 번째 뱃지부터 시작)
+     */
+    private List<UserBadgeSet> enroll(UserHabit userHabit) {
+        List<UserBadgeSet> enrolled = new ArrayList<>();
+        for (BadgeCatalog.SetEntry set : badgeCatalog.getApplicableSets(userHabit.getHabit().getId())) {
+            enrolled.add(UserBadgeSet.builder()
+                    .user(userHabit.getUser())
+                    .userHabit(userHabit)
+                    .badgeSet(badgeSetRepository.getReferenceById(set.badgeSetId()))
+                    .currentBadge(badgeRepository.getReferenceById(set.badgeIdAt(0)))
+                    .build());
+        }
+        return userBadgeSetRepository.saveAll(enrolled);
+    }
+}
@@ -4,12 +4,16 @@ import com.dailyonepage.backend.domain.badge.dto.*;
 import com.dailyonepage.backend.domain.badge.entity.BadgeSet;
 import com.dailyonepage.backend.domain.badge.entity.UserBadge;
 import com.dailyonepage.backend.domain.badge.entity.UserBadgeSet;
+import com.dailyonepage.backend.domain.badge.event.BadgeCatalogChangedEvent;
 import com.dailyonepage.backend.domain.badge.repository.BadgeSetRepository;
 import com.dailyonepage.backend.domain.badge.repository.UserBadgeRepository;
 import com.dailyonepage.backend.domain.badge.repository.UserBadgeSetRepository;
+import com.dailyonepage.backend.global.common.CatalogResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -28,6 +32,16 @@ public class BadgeService {
     private final BadgeSetRepository badgeSetRepository;
     private final UserBadgeRepository userBadgeRepository;
     private final UserBadgeSetRepository userBadgeSetRepository;
+    private final CatalogResponseCache catalogResponseCache;
+
+    /**
+     * 뱃지 카탈로그를 다시 읽으면 뱃지세트 목록 응답 캐시 삭제 (DB 접근 없음 → 트랜잭션 없이)
+     */
+    @EventListener(BadgeCatalogChangedEvent.class)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void onCatalogChanged() {
+        catalogResponseCache.invalidate(CatalogResponseCache.BADGES);
+    }
 
     /**
      * 내 뱃지 현황 조회 (획득 + 진행 중)
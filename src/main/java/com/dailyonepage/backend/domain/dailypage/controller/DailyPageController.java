@@ -2,11 +2,7 @@ package com.dailyonepage.backend.domain.dailypage.controller;
 
 import com.dailyonepage.backend.domain.dailypage.dto.*;
 import com.dailyonepage.backend.domain.dailypage.service.DailyPageService;
-import com.dailyonepage.backend.domain.user.entity.User;
-import com.dailyonepage.backend.domain.user.repository.UserRepository;
 import com.dailyonepage.backend.global.common.ApiResponse;
-import com.dailyonepage.backend.global.exception.BusinessException;
-import com.dailyonepage.backend.global.exception.ErrorCode;
 import com.dailyonepage.backend.global.security.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -32,7 +28,6 @@ import java.time.LocalDate;
 public class DailyPageController {
 
     private final DailyPageService dailyPageService;
-    private final UserRepository userRepository;
 
     /**
      * 페이지 작성
@@ -43,7 +38,7 @@ public class DailyPageController {
     public ResponseEntity<ApiResponse<DailyPageResponse>> createPage(
             @Valid @RequestBody DailyPageCreateRequest request) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         DailyPageResponse response = dailyPageService.createPage(userId, request);
 
         return ResponseEntity
@@ -62,7 +57,7 @@ public class DailyPageController {
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         LocalDate targetDate = date != null ? date : LocalDate.now();
 
         DailyPageResponse response = dailyPageService.getPageByDate(userId, targetDate);
@@ -82,7 +77,7 @@ public class DailyPageController {
             @Parameter(description = "월", example = "1")
             @RequestParam int month) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         CalendarResponse response = dailyPageService.getCalendar(userId, year, month);
 
         return ResponseEntity.ok(ApiResponse.success(response));
@@ -99,7 +94,7 @@ public class DailyPageController {
             @PathVariable Long id,
             @Valid @RequestBody DailyPageUpdateRequest request) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         DailyPageResponse response = dailyPageService.updatePage(userId, id, request);
 
         return ResponseEntity.ok(ApiResponse.success(response));
@@ -115,19 +110,9 @@ public class DailyPageController {
             @Parameter(description = "페이지 ID", example = "1")
             @PathVariable Long id) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         dailyPageService.deletePage(userId, id);
 
         return ResponseEntity.noContent().build();
     }
-
-    /**
-     * 현재 로그인한 사용자 ID 조회
-     */
-    private Long getCurrentUserId() {
-        String email = SecurityUtil.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        return user.getId();
-    }
 }
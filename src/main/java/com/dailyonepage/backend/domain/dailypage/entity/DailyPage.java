@@ -24,7 +24,8 @@ import java.time.LocalDate;
 public class DailyPage extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_page_seq")
+    @SequenceGenerator(name = "daily_page_seq", sequenceName = "daily_page_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
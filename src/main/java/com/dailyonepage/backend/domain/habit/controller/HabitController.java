@@ -2,18 +2,18 @@ package com.dailyonepage.backend.domain.habit.controller;
 
 import com.dailyonepage.backend.domain.habit.dto.*;
 import com.dailyonepage.backend.domain.habit.service.HabitService;
-import com.dailyonepage.backend.domain.user.entity.User;
-import com.dailyonepage.backend.domain.user.repository.UserRepository;
 import com.dailyonepage.backend.global.common.ApiResponse;
-import com.dailyonepage.backend.global.exception.BusinessException;
-import com.dailyonepage.backend.global.exception.ErrorCode;
+import com.dailyonepage.backend.global.common.CatalogResponseCache;
 import com.dailyonepage.backend.global.security.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,7 +29,7 @@ import org.springframework.web.bind.annotation.*;
 public class HabitController {
 
     private final HabitService habitService;
-    private final UserRepository userRepository;
+    private final CatalogResponseCache catalogResponseCache;
 
     /**
      * 습관 목록 조회
@@ -37,21 +37,23 @@ public class HabitController {
      * GET /api/habits?type=system (시스템 습관만)
      * GET /api/habits?type=custom (내 커스텀 습관만)
      */
-    @Operation(summary = "습관 목록 조회", description = "습관 목록을 조회합니다. type 미지정시 시스템 습관 반환")
+    @Operation(summary = "습관 목록 조회", description = "습관 목록을 조회합니다. type 미지정시 시스템 습관 반환 (시스템 습관은 ETag 지원, If-None-Match 일치 시 304)")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = SystemHabitListApiResponse.class)))
     @GetMapping
-    public ResponseEntity<ApiResponse<SystemHabitListResponse>> getHabits(
+    public ResponseEntity<?> getHabits(
             @Parameter(description = "습관 타입 (system/custom, 기본값: system)", example = "system")
             @RequestParam(required = false, defaultValue = "system") String type) {
 
         if ("custom".equals(type)) {
-            Long userId = getCurrentUserId();
+            Long userId = SecurityUtil.getCurrentUserId();
             SystemHabitListResponse response = habitService.getCustomHabits(userId);
             return ResponseEntity.ok(ApiResponse.success(response));
         }
 
-        // 기본값: system
-        SystemHabitListResponse response = habitService.getSystemHabits();
-        return ResponseEntity.ok(ApiResponse.success(response));
+        // 기본값: system (모든 사용자에게 같은 응답 → 직렬화된 응답 캐시)
+        return catalogResponseCache.respond(CatalogResponseCache.SYSTEM_HABITS, habitService::getSystemHabits);
     }
 
     /**
@@ -63,7 +65,7 @@ public class HabitController {
     public ResponseEntity<ApiResponse<HabitResponse>> createHabit(
             @Valid @RequestBody HabitCreateRequest request) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         HabitResponse response = habitService.createCustomHabit(userId, request);
 
         return ResponseEntity
@@ -82,7 +84,7 @@ public class HabitController {
             @PathVariable Long id,
             @Valid @RequestBody HabitUpdateRequest request) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         HabitResponse response = habitService.updateCustomHabit(userId, id, request);
 
         return ResponseEntity.ok(ApiResponse.success(response));
@@ -98,19 +100,14 @@ public class HabitController {
             @Parameter(description = "습관 ID", example = "1")
             @PathVariable Long id) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         habitService.deleteCustomHabit(userId, id);
 
         return ResponseEntity.noContent().build();
     }
 
-    /**
-     * 현재 로그인한 사용자 ID 조회
-     */
-    private Long getCurrentUserId() {
-        String email = SecurityUtil.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        return user.getId();
+    // OpenAPI 문서용 응답 스키마 (시스템 습관은 캐시된 JSON 바이트를 그대로 내려 반환 타입에 스키마가 없음)
+    @Schema(name = "ApiResponseSystemHabitListResponse")
+    record SystemHabitListApiResponse(boolean success, SystemHabitListResponse data) {
     }
 }
@@ -1,14 +1,14 @@
 package com.dailyonepage.backend.domain.habit.controller;
 
+import com.dailyonepage.backend.domain.habit.dto.HabitHeatmapResponse;
+import com.dailyonepage.backend.domain.habit.dto.HabitLogBulkCreateRequest;
+import com.dailyonepage.backend.domain.habit.dto.HabitLogBulkResponse;
 import com.dailyonepage.backend.domain.habit.dto.HabitLogCreateRequest;
 import com.dailyonepage.backend.domain.habit.dto.HabitLogListResponse;
 import com.dailyonepage.backend.domain.habit.dto.HabitLogResponse;
+import com.dailyonepage.backend.domain.habit.service.HabitLogFacade;
 import com.dailyonepage.backend.domain.habit.service.HabitLogService;
-import com.dailyonepage.backend.domain.user.entity.User;
-import com.dailyonepage.backend.domain.user.repository.UserRepository;
 import com.dailyonepage.backend.global.common.ApiResponse;
-import com.dailyonepage.backend.global.exception.BusinessException;
-import com.dailyonepage.backend.global.exception.ErrorCode;
 import com.dailyonepage.backend.global.security.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -34,23 +34,38 @@ import java.time.LocalDate;
 public class HabitLogController {
 
     private final HabitLogService habitLogService;
-    private final UserRepository userRepository;
+    private final HabitLogFacade habitLogFacade;
 
     /**
      * 습관 체크
      * POST /api/habit-logs
      */
-    @Operation(summary = "습관 체크", description = "오늘(또는 지정 날짜) 습관을 체크합니다.")
+    @Operation(summary = "습관 체크", description = "오늘(또는 지정 날짜) 습관을 체크합니다. 지난 날짜는 최근 7일까지 가능하며, 같은 날짜를 다시 요청하면 기존 기록의 체크 여부를 요청 값으로 바꿉니다. (새로 만들면 201, 기존 기록이면 200)")
     @PostMapping
     public ResponseEntity<ApiResponse<HabitLogResponse>> checkHabit(
             @Valid @RequestBody HabitLogCreateRequest request) {
 
-        Long userId = getCurrentUserId();
-        HabitLogResponse response = habitLogService.checkHabit(userId, request);
+        Long userId = SecurityUtil.getCurrentUserId();
+        HabitLogService.CheckResult result = habitLogFacade.checkHabit(userId, request);
 
         return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .body(ApiResponse.success(response));
+                .status(result.created() ? HttpStatus.CREATED : HttpStatus.OK)
+                .body(ApiResponse.success(result.response()));
+    }
+
+    /**
+     * 습관 일괄 체크
+     * POST /api/habit-logs/bulk
+     */
+    @Operation(summary = "습관 일괄 체크", description = "여러 습관을 한 번에 체크합니다. 항목별 성공/실패를 요청 순서대로 반환합니다.")
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<HabitLogBulkResponse>> checkHabits(
+            @Valid @RequestBody HabitLogBulkCreateRequest request) {
+
+        Long userId = SecurityUtil.getCurrentUserId();
+        HabitLogBulkResponse response = habitLogFacade.checkHabits(userId, request);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     /**
@@ -64,7 +79,7 @@ public class HabitLogController {
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         LocalDate targetDate = date != null ? date : LocalDate.now();
 
         HabitLogListResponse response = habitLogService.getLogsByDate(userId, targetDate);
@@ -72,6 +87,31 @@ public class HabitLogController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 기간 히트맵 조회
+     * GET /api/habit-logs/heatmap?from=2025-01-01&to=2025-12-31
+     */
+    @Operation(summary = "습관 히트맵 조회", description = "기간(최대 366일) 동안의 체크 기록을 날짜별 비트마스크로 조회합니다. userHabitId를 지정하면 해당 습관만 조회합니다.")
+    @GetMapping("/heatmap")
+    public ResponseEntity<ApiResponse<HabitHeatmapResponse>> getHeatmap(
+            @Parameter(description = "시작 날짜 (기본값: 종료 날짜 기준 1년 전 다음 날)", example = "2025-01-01")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 날짜 (기본값: 오늘)", example = "2025-12-31")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "사용자 습관 ID (없으면 전체 습관)", example = "1")
+            @RequestParam(required = false) Long userHabitId) {
+
+        Long userId = SecurityUtil.getCurrentUserId();
+        LocalDate endDate = to != null ? to : LocalDate.now();
+        LocalDate startDate = from != null ? from : endDate.minusYears(1).plusDays(1);
+
+        HabitHeatmapResponse response = habitLogService.getHeatmap(userId, startDate, endDate, userHabitId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 습관 체크 취소
      * DELETE /api/habit-logs/{id}
@@ -82,19 +122,9 @@ public class HabitLogController {
             @Parameter(description = "로그 ID", example = "1")
             @PathVariable Long id) {
 
-        Long userId = getCurrentUserId();
-        habitLogService.cancelCheck(userId, id);
+        Long userId = SecurityUtil.getCurrentUserId();
+        habitLogFacade.cancelCheck(userId, id);
 
         return ResponseEntity.noContent().build();
     }
-
-    /**
-     * 현재 로그인한 사용자 ID 조회
-     */
-    private Long getCurrentUserId() {
-        String email = SecurityUtil.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        return user.getId();
-    }
 }
@@ -5,11 +5,7 @@ import com.dailyonepage.backend.domain.habit.dto.UserHabitDetailResponse;
 import com.dailyonepage.backend.domain.habit.dto.UserHabitListResponse;
 import com.dailyonepage.backend.domain.habit.dto.UserHabitResponse;
 import com.dailyonepage.backend.domain.habit.service.UserHabitService;
-import com.dailyonepage.backend.domain.user.entity.User;
-import com.dailyonepage.backend.domain.user.repository.UserRepository;
 import com.dailyonepage.backend.global.common.ApiResponse;
-import com.dailyonepage.backend.global.exception.BusinessException;
-import com.dailyonepage.backend.global.exception.ErrorCode;
 import com.dailyonepage.backend.global.security.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -32,7 +28,6 @@ import org.springframework.web.bind.annotation.*;
 public class UserHabitController {
 
     private final UserHabitService userHabitService;
-    private final UserRepository userRepository;
 
     /**
      * 내 습관 목록 조회
@@ -41,7 +36,7 @@ public class UserHabitController {
     @Operation(summary = "내 습관 목록 조회", description = "현재 로그인한 사용자가 등록한 습관 목록을 조회합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<UserHabitListResponse>> getMyHabits() {
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         UserHabitListResponse response = userHabitService.getMyHabits(userId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -56,7 +51,7 @@ public class UserHabitController {
             @Parameter(description = "사용자 습관 ID", example = "1")
             @PathVariable Long id) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         UserHabitDetailResponse response = userHabitService.getMyHabitDetail(userId, id);
 
         return ResponseEntity.ok(ApiResponse.success(response));
@@ -71,7 +66,7 @@ public class UserHabitController {
     public ResponseEntity<ApiResponse<UserHabitResponse>> registerHabit(
             @Valid @RequestBody UserHabitCreateRequest request) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         UserHabitResponse response = userHabitService.registerHabit(userId, request);
 
         return ResponseEntity
@@ -89,19 +84,9 @@ public class UserHabitController {
             @Parameter(description = "사용자 습관 ID", example = "1")
             @PathVariable Long id) {
 
-        Long userId = getCurrentUserId();
+        Long userId = SecurityUtil.getCurrentUserId();
         userHabitService.unregisterHabit(userId, id);
 
         return ResponseEntity.noContent().build();
     }
-
-    /**
-     * 현재 로그인한 사용자 ID 조회
-     */
-    private Long getCurrentUserId() {
-        String email = SecurityUtil.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        return user.getId();
-    }
 }
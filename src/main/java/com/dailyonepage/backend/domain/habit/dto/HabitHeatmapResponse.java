@@ -0,0 +1,56 @@
+package com.dailyonepage.backend.domain.habit.dto;
+
+import com.dailyonepage.backend.domain.habit.entity.UserHabit;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 습관 히트맵 응답 DTO
+ *
+ * days[i]는 from + i일의 체크 비트마스크 (16진수 문자열)
+ * 비트 n이 켜져 있으면 habits[n] 습관을 그날 체크한 것
+ */
+@Schema(description = "습관 히트맵 응답")
+@Getter
+@Builder
+public class HabitHeatmapResponse {
+
+    @Schema(description = "시작 날짜", example = "2025-01-01")
+    private LocalDate from;
+
+    @Schema(description = "종료 날짜", example = "2025-01-31")
+    private LocalDate to;
+
+    @Schema(description = "비트 순서대로의 습관 목록")
+    private List<HabitEntry> habits;
+
+    @Schema(description = "날짜별 체크 비트마스크 (16진수, from부터 하루씩)", example = "[\"0\", \"3\", \"1\"]")
+    private List<String> days;
+
+    @Schema(description = "습관 히트맵 비트 정보")
+    @Getter
+    @Builder
+    public static class HabitEntry {
+
+        @Schema(description = "비트 위치", example = "0")
+        private int bit;
+
+        @Schema(description = "사용자 습관 ID", example = "1")
+        private Long userHabitId;
+
+        @Schema(description = "습관 이름", example = "달리기")
+        private String habitName;
+
+        public static HabitEntry of(int bit, UserHabit userHabit) {
+            return HabitEntry.builder()
+                    .bit(bit)
+                    .userHabitId(userHabit.getId())
+                    .habitName(userHabit.getHabit().getName())
+                    .build();
+        }
+    }
+}
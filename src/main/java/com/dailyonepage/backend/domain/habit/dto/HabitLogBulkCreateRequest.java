@@ -0,0 +1,24 @@
+package com.dailyonepage.backend.domain.habit.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 습관 일괄 체크 요청 DTO
+ */
+@Schema(description = "습관 일괄 체크 요청")
+@Getter
+@NoArgsConstructor
+public class HabitLogBulkCreateRequest {
+
+    @Schema(description = "체크 항목 목록 (최대 50개)")
+    @NotEmpty(message = "체크 항목은 1개 이상이어야 합니다.")
+    @Size(max = 50, message = "한 번에 최대 50개까지 체크할 수 있습니다.")
+    private List<@Valid HabitLogCreateRequest> items;
+}
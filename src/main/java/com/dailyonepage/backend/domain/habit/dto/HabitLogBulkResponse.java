@@ -0,0 +1,81 @@
+package com.dailyonepage.backend.domain.habit.dto;
+
+import com.dailyonepage.backend.global.exception.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 습관 일괄 체크 응답 DTO
+ * 항목별 성공/실패를 요청 순서대로 반환
+ */
+@Schema(description = "습관 일괄 체크 응답")
+@Getter
+@Builder
+public class HabitLogBulkResponse {
+
+    @Schema(description = "항목별 결과 (요청 순서)")
+    private List<ItemResult> results;
+
+    @Schema(description = "성공 개수", example = "5")
+    private int successCount;
+
+    @Schema(description = "실패 개수", example = "1")
+    private int failureCount;
+
+    public static HabitLogBulkResponse of(List<ItemResult> results) {
+        int successCount = (int) results.stream().filter(ItemResult::isSuccess).count();
+        return HabitLogBulkResponse.builder()
+                .results(results)
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .build();
+    }
+
+    @Getter
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+
+        @Schema(description = "사용자 습관 ID", example = "1")
+        private Long userHabitId;
+
+        @Schema(description = "체크 날짜", example = "2025-01-29")
+        private LocalDate date;
+
+        @Schema(description = "성공 여부", example = "true")
+        private boolean success;
+
+        @Schema(description = "생성된 체크 기록 (성공 시)")
+        private HabitLogResponse log;
+
+        @Schema(description = "에러 코드 (실패 시)", example = "HABIT_007")
+        private String errorCode;
+
+        @Schema(description = "에러 메시지 (실패 시)", example = "해당 날짜에 이미 체크 기록이 있습니다.")
+        private String message;
+
+        public static ItemResult success(HabitLogResponse log) {
+            return ItemResult.builder()
+                    .userHabitId(log.getUserHabitId())
+                    .date(log.getDate())
+                    .success(true)
+                    .log(log)
+                    .build();
+        }
+
+        public static ItemResult failure(Long userHabitId, LocalDate date, ErrorCode errorCode) {
+            return ItemResult.builder()
+                    .userHabitId(userHabitId)
+                    .date(date)
+                    .success(false)
+                    .errorCode(errorCode.getCode())
+                    .message(errorCode.getMessage())
+                    .build();
+        }
+    }
+}
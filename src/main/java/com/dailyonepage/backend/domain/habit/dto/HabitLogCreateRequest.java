@@ -19,7 +19,7 @@ public class HabitLogCreateRequest {
     @NotNull(message = "사용자 습관 ID는 필수입니다.")
     private Long userHabitId;
 
-    @Schema(description = "체크 날짜 (null이면 오늘)", example = "2025-01-29")
+    @Schema(description = "체크 날짜 (null이면 오늘, 최근 7일 이내)", example = "2025-01-29")
     private LocalDate date;
 
     @Schema(description = "체크 여부 (기본값: true)", example = "true")
@@ -3,6 +3,7 @@ package com.dailyonepage.backend.domain.habit.dto;
 import com.dailyonepage.backend.domain.habit.entity.HabitLog;
 import com.dailyonepage.backend.domain.habit.entity.HabitType;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -11,10 +12,13 @@ import java.time.LocalDateTime;
 
 /**
  * 습관 체크 기록 응답 DTO
+ *
+ * 전체 인자 생성자는 JPQL 생성자 프로젝션용 (HabitLogRepository.findDailyLogs)
  */
 @Schema(description = "습관 체크 기록 응답")
 @Getter
 @Builder
+@AllArgsConstructor
 public class HabitLogResponse {
 
     @Schema(description = "로그 ID", example = "1")
@@ -53,22 +57,4 @@ public class HabitLogResponse {
                 .createdAt(habitLog.getCreatedAt())
                 .build();
     }
-
-    /**
-     * 체크하지 않은 습관용 (id=null, checked=false)
-     */
-    public static HabitLogResponse fromUserHabitUnchecked(
-            com.dailyonepage.backend.domain.habit.entity.UserHabit userHabit,
-            LocalDate date) {
-        return HabitLogResponse.builder()
-                .id(null)
-                .userHabitId(userHabit.getId())
-                .habitName(userHabit.getHabit().getName())
-                .habitType(userHabit.getHabit().getType())
-                .date(date)
-                .checked(false)
-                .currentStreak(userHabit.getCurrentStreak())
-                .createdAt(null)
-                .build();
-    }
 }
@@ -26,9 +26,18 @@ public class UserHabitDetailResponse {
     @Schema(description = "현재 스트릭", example = "7")
     private int currentStreak;
 
+    @Schema(description = "최장 스트릭", example = "30")
+    private int longestStreak;
+
     @Schema(description = "마지막 체크 날짜", example = "2025-01-29")
     private LocalDate lastCheckedDate;
 
+    @Schema(description = "최근 30일 체크 일수", example = "21")
+    private int recentCheckedDays;
+
+    @Schema(description = "최근 30일 달성률 (0~1)", example = "0.7")
+    private double recentCompletionRate;
+
     @Schema(description = "등록일시", example = "2025-01-01T10:00:00")
     private LocalDateTime createdAt;
 
@@ -54,7 +63,8 @@ public class UserHabitDetailResponse {
         private boolean isSystem;
     }
 
-    public static UserHabitDetailResponse from(UserHabit userHabit) {
+    public static UserHabitDetailResponse from(UserHabit userHabit, int recentCheckedDays,
+                                               double recentCompletionRate) {
         return UserHabitDetailResponse.builder()
                 .id(userHabit.getId())
                 .habit(HabitInfo.builder()
@@ -66,7 +76,10 @@ public class UserHabitDetailResponse {
                         .isSystem(userHabit.getHabit().isSystemHabit())
                         .build())
                 .currentStreak(userHabit.getCurrentStreak())
+                .longestStreak(userHabit.getLongestStreak())
                 .lastCheckedDate(userHabit.getLastCheckedDate())
+                .recentCheckedDays(recentCheckedDays)
+                .recentCompletionRate(recentCompletionRate)
                 .createdAt(userHabit.getCreatedAt())
                 .build();
     }
@@ -32,6 +32,9 @@ public class UserHabitResponse {
     @Schema(description = "현재 스트릭", example = "7")
     private int currentStreak;
 
+    @Schema(description = "최장 스트릭", example = "30")
+    private int longestStreak;
+
     @Schema(description = "마지막 체크 날짜", example = "2025-01-29")
     private LocalDate lastCheckedDate;
 
@@ -45,6 +48,7 @@ public class UserHabitResponse {
                 .habitName(userHabit.getHabit().getName())
                 .habitType(userHabit.getHabit().getType())
                 .currentStreak(userHabit.getCurrentStreak())
+                .longestStreak(userHabit.getLongestStreak())
                 .lastCheckedDate(userHabit.getLastCheckedDate())
                 .createdAt(userHabit.getCreatedAt())
                 .build();
@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class Habit {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "habit_seq")
+    @SequenceGenerator(name = "habit_seq", sequenceName = "habit_seq", allocationSize = 50)
     private Long id;
 
     /**
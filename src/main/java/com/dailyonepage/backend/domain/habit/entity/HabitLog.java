@@ -24,7 +24,8 @@ import java.time.LocalDateTime;
 public class HabitLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "habit_log_seq")
+    @SequenceGenerator(name = "habit_log_seq", sequenceName = "habit_log_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
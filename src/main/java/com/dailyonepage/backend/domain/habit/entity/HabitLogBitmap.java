@@ -0,0 +1,152 @@
+package com.dailyonepage.backend.domain.habit.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 습관 체크 기록 비트맵 (UserHabit × 연도)
+ *
+ * habit_log의 체크(checked=true) 여부를 연도별 366비트(46바이트)로 함께 저장한다.
+ * 비트 위치 = dayOfYear - 1
+ * 스트릭/달성률/기간 조회를 로그 행 수와 무관하게 비트 연산으로 계산하기 위한 용도이며,
+ * 원본은 여전히 habit_log다. (없는 연도는 habit_log로부터 생성)
+ */
+@Entity
+@Table(name = "habit_log_bitmap",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_habit_id", "log_year"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HabitLogBitmap {
+
+    public static final int DAYS_CAPACITY = 366;
+    private static final int BYTES = (DAYS_CAPACITY + 7) / 8;
+    private static final int WORDS = (DAYS_CAPACITY + Long.SIZE - 1) / Long.SIZE;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "habit_log_bitmap_seq")
+    @SequenceGenerator(name = "habit_log_bitmap_seq", sequenceName = "habit_log_bitmap_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_habit_id", nullable = false)
+    private UserHabit userHabit;
+
+    @Column(name = "log_year", nullable = false)
+    private int year;
+
+    @Column(nullable = false, length = BYTES)
+    private byte[] bits;
+
+    // 낙관적 락 버전 (같은 연도 비트맵을 동시에 고칠 때 한쪽 변경이 사라지지 않도록)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    private HabitLogBitmap(UserHabit userHabit, int year, byte[] bits) {
+        this.userHabit = userHabit;
+        this.year = year;
+        this.bits = bits;
+    }
+
+    /**
+     * 체크된 날짜 목록으로 생성
+     */
+    public static HabitLogBitmap of(UserHabit userHabit, int year, Iterable<LocalDate> checkedDates) {
+        BitSet bitSet = new BitSet(DAYS_CAPACITY);
+        for (LocalDate date : checkedDates) {
+            bitSet.set(date.getDayOfYear() - 1);
+        }
+        return new HabitLogBitmap(userHabit, year, toBytes(bitSet));
+    }
+
+    /**
+     * 해당 날짜 체크 여부 변경
+     */
+    public void mark(LocalDate date, boolean checked) {
+        int index = indexOf(date);
+        byte[] updated = Arrays.copyOf(bits, BYTES);
+        if (checked) {
+            updated[index >>> 3] |= (byte) (1 << (index & 7));
+        } else {
+            updated[index >>> 3] &= (byte) ~(1 << (index & 7));
+        }
+        this.bits = updated;  // 새 배열로 교체해 변경 감지
+    }
+
+    public boolean isChecked(LocalDate date) {
+        int index = indexOf(date);
+        return (bits[index >>> 3] & (1 << (index & 7))) != 0;
+    }
+
+    /**
+     * 기간 내 체크된 일수 (from, to 모두 이 연도에 속해야 함)
+     */
+    public int countChecked(LocalDate from, LocalDate to) {
+        return toBitSet().get(indexOf(from), indexOf(to) + 1).cardinality();
+    }
+
+    /**
+     * 체크된 날짜가 하나도 없는지
+     */
+    public boolean isEmpty() {
+        return toBitSet().isEmpty();
+    }
+
+    /**
+     * date부터 거꾸로 이어진 체크 일수 (date 포함, 이 연도 안에서만 셈)
+     * 결과가 date의 dayOfYear와 같으면 1월 1일까지 이어진 것이고,
+     * 전년도로 이어 붙이는 것은 HabitLogBitmapService.runEndingAt이 한다.
+     */
+    public int runEndingAt(LocalDate date) {
+        int index = indexOf(date);
+        BitSet bitSet = toBitSet();
+        if (!bitSet.get(index)) {
+            return 0;
+        }
+        return index - bitSet.previousClearBit(index);
+    }
+
+    /**
+     * date부터 앞으로 이어진 체크 일수 (date 포함, 이 연도 안에서만 셈)
+     * 결과가 12월 31일까지 남은 일수와 같으면 연말까지 이어진 것이고,
+     * 다음 연도로 이어 붙이는 것은 HabitLogBitmapService.runStartingAt이 한다.
+     */
+    public int runStartingAt(LocalDate date) {
+        int index = indexOf(date);
+        BitSet bitSet = toBitSet();
+        if (!bitSet.get(index)) {
+            return 0;
+        }
+        return Math.min(bitSet.nextClearBit(index), date.lengthOfYear()) - index;
+    }
+
+    /**
+     * 64비트 워드 배열 (워드 i의 비트 j = dayOfYear - 1 = 64i + j, 항상 WORDS 길이)
+     */
+    public long[] toWords() {
+        return Arrays.copyOf(toBitSet().toLongArray(), WORDS);
+    }
+
+    private int indexOf(LocalDate date) {
+        if (date.getYear() != year) {
+            throw new IllegalArgumentException("비트맵 연도와 다른 날짜입니다: " + date);
+        }
+        return date.getDayOfYear() - 1;
+    }
+
+    private BitSet toBitSet() {
+        return BitSet.valueOf(bits);
+    }
+
+    private static byte[] toBytes(BitSet bitSet) {
+        return Arrays.copyOf(bitSet.toByteArray(), BYTES);
+    }
+}
@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
@@ -24,7 +25,8 @@ import java.time.LocalDate;
 public class UserHabit extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_habit_seq")
+    @SequenceGenerator(name = "user_habit_seq", sequenceName = "user_habit_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -41,47 +43,30 @@ public class UserHabit extends BaseTimeEntity {
     @Column(name = "last_checked_date")
     private LocalDate lastCheckedDate;
 
+    @Column(name = "longest_streak", nullable = false)
+    private int longestStreak = 0;
+
+    // 낙관적 락 버전 (같은 습관의 동시 체크/취소가 서로의 스트릭을 덮어쓰지 않도록)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Builder
     public UserHabit(User user, Habit habit) {
         this.user = user;
         this.habit = habit;
         this.currentStreak = 0;
         this.lastCheckedDate = null;
+        this.longestStreak = 0;
     }
 
     /**
-     * 습관 체크 시 스트릭 업데이트
-     *
-     * @param today 오늘 날짜
-     */
-    public void checkHabit(LocalDate today) {
-        if (lastCheckedDate == null) {
-            // 첫 체크
-            this.currentStreak = 1;
-        } else if (lastCheckedDate.equals(today.minusDays(1))) {
-            // 연속 체크 (어제 체크했으면)
-            this.currentStreak += 1;
-        } else if (!lastCheckedDate.equals(today)) {
-            // 연속 끊김 (어제가 아니면 리셋)
-            this.currentStreak = 1;
-        }
-        // 같은 날 중복 체크는 무시
-        this.lastCheckedDate = today;
-    }
-
-    /**
-     * 스트릭 재계산 (과거 수정 시 사용)
+     * 스트릭 갱신 (HabitStreakService가 계산한 값 반영)
      */
-    public void recalculateStreak(int newStreak, LocalDate lastDate) {
-        this.currentStreak = newStreak;
-        this.lastCheckedDate = lastDate;
-    }
-
-    /**
-     * 스트릭 리셋
-     */
-    public void resetStreak() {
-        this.currentStreak = 0;
-        this.lastCheckedDate = null;
+    public void updateStreak(int currentStreak, LocalDate lastCheckedDate, int longestStreak) {
+        this.currentStreak = currentStreak;
+        this.lastCheckedDate = lastCheckedDate;
+        this.longestStreak = longestStreak;
     }
 }
@@ -0,0 +1,10 @@
+package com.dailyonepage.backend.domain.habit.event;
+
+/**
+ * 스트릭 변경 이벤트 (체크/취소로 UserHabit 스트릭을 다시 계산했을 때)
+ *
+ * 값은 싣지 않는다. 구독자는 커밋 후 DB의 최신 스트릭을 읽으므로
+ * 이벤트가 늦게/순서가 바뀌어 처리돼도 결과가 같다.
+ */
+public record StreakChangedEvent(Long userId, Long userHabitId) {
+}
@@ -0,0 +1,30 @@
+package com.dailyonepage.backend.domain.habit.repository;
+
+import com.dailyonepage.backend.domain.habit.entity.HabitLogBitmap;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface HabitLogBitmapRepository extends JpaRepository<HabitLogBitmap, Long> {
+
+    // 특정 연도 비트맵
+    @Query("SELECT b FROM HabitLogBitmap b WHERE b.userHabit.id = :userHabitId AND b.year = :year")
+    Optional<HabitLogBitmap> findByUserHabitIdAndYear(@Param("userHabitId") Long userHabitId,
+                                                      @Param("year") int year);
+
+    // 연도 범위 비트맵
+    @Query("SELECT b FROM HabitLogBitmap b WHERE b.userHabit.id = :userHabitId " +
+            "AND b.year BETWEEN :startYear AND :endYear")
+    List<HabitLogBitmap> findByUserHabitIdAndYearBetween(@Param("userHabitId") Long userHabitId,
+                                                         @Param("startYear") int startYear,
+                                                         @Param("endYear") int endYear);
+
+    // 여러 습관 × 연도 비트맵 (일괄 체크용)
+    @Query("SELECT b FROM HabitLogBitmap b WHERE b.userHabit.id IN :userHabitIds AND b.year IN :years")
+    List<HabitLogBitmap> findByUserHabitIdInAndYearIn(@Param("userHabitIds") Collection<Long> userHabitIds,
+                                                      @Param("years") Collection<Integer> years);
+}
@@ -0,0 +1,10 @@
+package com.dailyonepage.backend.domain.habit.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 습관 체크 기록 자연키 (user_habit_id, date)
+ * habit_log 유니크 제약과 같은 조합
+ */
+public record HabitLogKey(Long userHabitId, LocalDate date) {
+}
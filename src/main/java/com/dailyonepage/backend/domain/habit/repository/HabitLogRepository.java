@@ -1,15 +1,17 @@
 package com.dailyonepage.backend.domain.habit.repository;
 
+import com.dailyonepage.backend.domain.habit.dto.HabitLogResponse;
 import com.dailyonepage.backend.domain.habit.entity.HabitLog;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface HabitLogRepository extends JpaRepository<HabitLog, Long> {
+public interface HabitLogRepository extends JpaRepository<HabitLog, Long>, HabitLogRepositoryCustom {
 
     // 특정 날짜의 습관 로그 조회
     Optional<HabitLog> findByUserHabitIdAndDate(Long userHabitId, LocalDate date);
@@ -29,8 +31,43 @@ public interface HabitLogRepository extends JpaRepository<HabitLog, Long> {
             "WHERE uh.user.id = :userId AND hl.date = :date")
     List<HabitLog> findByUserIdAndDate(@Param("userId") Long userId, @Param("date") LocalDate date);
 
-    // 연속 체크 일수 계산을 위한 로그 조회 (최근순)
-    @Query("SELECT hl FROM HabitLog hl WHERE hl.userHabit.id = :userHabitId " +
-            "AND hl.checked = true ORDER BY hl.date DESC")
-    List<HabitLog> findCheckedLogsByUserHabitIdOrderByDateDesc(@Param("userHabitId") Long userHabitId);
+    // 사용자의 모든 습관 + 특정 날짜 기록 (기록 없는 습관은 id=null, checked=false, 엔티티 없이 DTO로 바로 조회)
+    @Query("SELECT new com.dailyonepage.backend.domain.habit.dto.HabitLogResponse(" +
+            "hl.id, uh.id, h.name, h.type, COALESCE(hl.date, :date), COALESCE(hl.checked, false), " +
+            "uh.currentStreak, hl.createdAt) " +
+            "FROM UserHabit uh JOIN uh.habit h " +
+            "LEFT JOIN HabitLog hl ON hl.userHabit.id = uh.id AND hl.date = :date " +
+            "WHERE uh.user.id = :userId ORDER BY uh.id")
+    List<HabitLogResponse> findDailyLogs(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    // 기간 내 체크된 날짜 (비트맵 생성용, 최대 1년 범위)
+    @Query("SELECT hl.date FROM HabitLog hl WHERE hl.userHabit.id = :userHabitId " +
+            "AND hl.checked = true AND hl.date BETWEEN :startDate AND :endDate")
+    List<LocalDate> findCheckedDates(
+            @Param("userHabitId") Long userHabitId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    // 사용자의 기간 내 체크 기록 (히트맵용, 모든 습관을 한 번에)
+    @Query("SELECT new com.dailyonepage.backend.domain.habit.repository.HabitLogKey(hl.userHabit.id, hl.date) " +
+            "FROM HabitLog hl WHERE hl.userHabit.user.id = :userId " +
+            "AND hl.checked = true AND hl.date BETWEEN :startDate AND :endDate")
+    List<HabitLogKey> findCheckedKeysByUserIdAndDateBetween(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    // 여러 습관의 전체 체크 기록 (습관별 날짜 오름차순, 백필용)
+    @Query("SELECT new com.dailyonepage.backend.domain.habit.repository.HabitLogKey(hl.userHabit.id, hl.date) " +
+            "FROM HabitLog hl WHERE hl.userHabit.id IN :userHabitIds AND hl.checked = true " +
+            "ORDER BY hl.userHabit.id, hl.date")
+    List<HabitLogKey> findCheckedKeysByUserHabitIdIn(@Param("userHabitIds") Collection<Long> userHabitIds);
+
+    // 가장 최근 체크 날짜
+    @Query("SELECT MAX(hl.date) FROM HabitLog hl WHERE hl.userHabit.id = :userHabitId AND hl.checked = true")
+    Optional<LocalDate> findLastCheckedDate(@Param("userHabitId") Long userHabitId);
+
+    // 가장 오래된 체크 날짜
+    @Query("SELECT MIN(hl.date) FROM HabitLog hl WHERE hl.userHabit.id = :userHabitId AND hl.checked = true")
+    Optional<LocalDate> findFirstCheckedDate(@Param("userHabitId") Long userHabitId);
 }
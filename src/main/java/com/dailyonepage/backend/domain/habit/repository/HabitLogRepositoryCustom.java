@@ -0,0 +1,25 @@
+package com.dailyonepage.backend.domain.habit.repository;
+
+import com.dailyonepage.backend.domain.habit.entity.HabitLog;
+
+import java.util.List;
+
+/**
+ * habit_log upsert (유니크 제약 (user_habit_id, date) 기준)
+ */
+public interface HabitLogRepositoryCustom {
+
+    /**
+     * 같은 (습관, 날짜) 기록이 없으면 INSERT, 있으면 checked만 UPDATE
+     *
+     * @return 저장된 행 (새로 INSERT됐으면 입력과 같은 ID, 기존 행이면 기존 ID/생성일시)
+     */
+    HabitLog upsert(HabitLog habitLog);
+
+    /**
+     * upsert를 JDBC 배치로 여러 건 실행 (입력에 같은 (습관, 날짜)가 두 번 있으면 안 됨)
+     *
+     * @return 항목별 저장된 행 (입력 순서)
+     */
+    List<HabitLog> upsertAll(List<HabitLog> habitLogs);
+}
@@ -0,0 +1,148 @@
+package com.dailyonepage.backend.domain.habit.repository;
+
+import com.dailyonepage.backend.domain.habit.entity.HabitLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * habit_log upsert 구현
+ *
+ * 유니크 제약에 부딪히면 기존 행의 checked만 바꾸는 SQL을 DB별로 사용한다.
+ * - MySQL: INSERT ... ON DUPLICATE KEY UPDATE
+ *   (INSERT IGNORE는 FK/NOT NULL/길이 오류까지 경고로 바꿔 삼키므로 쓰지 않음)
+ * - H2: MERGE ... WHEN MATCHED THEN UPDATE / WHEN NOT MATCHED THEN INSERT
+ * ID는 엔티티와 같은 시퀀스 생성기에서 받고, 현재 트랜잭션의 커넥션으로 실행한다.
+ *
+ * 배치 결과 건수는 드라이버 설정(rewriteBatchedStatements, useAffectedRows)에 따라
+ * SUCCESS_NO_INFO이거나 INSERT/UPDATE를 구분할 수 없으므로 실패(EXECUTE_FAILED)만 확인하고,
+ * 저장된 행은 (습관, 날짜)로 한 번에 다시 읽어 ID로 INSERT 여부를 판단한다.
+ * (SQL은 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션에서 대상 행을 먼저 엔티티로 읽어 두지 않아야 한다)
+ *
+ * 다시 읽기는 잠금 읽기(SELECT ... FOR UPDATE)다.
+ * MySQL REPEATABLE READ에서 일반 SELECT는 트랜잭션 첫 읽기 시점의 스냅샷을 보므로,
+ * 그 뒤 다른 트랜잭션이 커밋한 행에 같은 값으로 upsert하면(변경 없음) 그 행이 보이지 않는다.
+ * 잠금 읽기는 최신 커밋 행을 읽고, upsert가 이미 그 행을 잠갔으므로 추가로 대기하지 않는다.
+ * 그래도 행이 없으면 재시도 가능한 ConcurrencyFailureException으로 알린다.
+ *
+ * 왕복 횟수: upsert 배치 1번 + 다시 읽기 1번 (ID 시퀀스는 50개 단위로 미리 받아 대부분 왕복 없음)
+ * 기존 행의 ID/생성일시를 응답에 돌려줘야 하므로 다시 읽기는 생략하지 않는다.
+ */
+public class HabitLogRepositoryImpl implements HabitLogRepositoryCustom {
+
+    private static final String MYSQL_UPSERT =
+            "INSERT INTO habit_log (id, user_habit_id, date, checked, created_at) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE checked = VALUES(checked)";
+
+    private static final String MERGE_UPSERT =
+            "MERGE INTO habit_log t " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS BOOLEAN), CAST(? AS TIMESTAMP))) " +
+            "s(id, user_habit_id, log_date, checked, created_at) " +
+            "ON t.user_habit_id = s.user_habit_id AND t.date = s.log_date " +
+            "WHEN MATCHED THEN UPDATE SET checked = s.checked " +
+            "WHEN NOT MATCHED THEN INSERT (id, user_habit_id, date, checked, created_at) " +
+            "VALUES (s.id, s.user_habit_id, s.log_date, s.checked, s.created_at)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public HabitLog upsert(HabitLog habitLog) {
+        return upsertAll(List.of(habitLog)).get(0);
+    }
+
+    @Override
+    public List<HabitLog> upsertAll(List<HabitLog> habitLogs) {
+        if (habitLogs.isEmpty()) {
+            return List.of();
+        }
+
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(HabitLog.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) persister.getGenerator();
+
+        for (HabitLog habitLog : habitLogs) {
+            Object id = generator.generate(session, habitLog, null, EventType.INSERT);
+            persister.setIdentifier(habitLog, id, session);
+        }
+
+        String sql = session.getJdbcServices().getDialect() instanceof MySQLDialect
+                ? MYSQL_UPSERT
+                : MERGE_UPSERT;
+
+        int[] counts = session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (HabitLog habitLog : habitLogs) {
+                    statement.setLong(1, habitLog.getId());
+                    statement.setLong(2, habitLog.getUserHabit().getId());
+                    statement.setObject(3, habitLog.getDate());
+                    statement.setBoolean(4, habitLog.isChecked());
+                    statement.setObject(5, habitLog.getCreatedAt());
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.EXECUTE_FAILED) {
+                throw new IncorrectUpdateSemanticsDataAccessException(
+                        "habit_log upsert 실패: userHabitId=" + habitLogs.get(i).getUserHabit().getId()
+                                + ", date=" + habitLogs.get(i).getDate());
+            }
+        }
+
+        return reload(habitLogs);
+    }
+
+    /**
+     * 저장된 행을 (습관, 날짜)로 잠금 읽기해 입력 순서대로 반환
+     */
+    private List<HabitLog> reload(List<HabitLog> habitLogs) {
+        Set<Long> userHabitIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (HabitLog habitLog : habitLogs) {
+            userHabitIds.add(habitLog.getUserHabit().getId());
+            dates.add(habitLog.getDate());
+        }
+
+        Map<HabitLogKey, HabitLog> saved = new HashMap<>();
+        entityManager.createQuery(
+                        "SELECT hl FROM HabitLog hl WHERE hl.userHabit.id IN :userHabitIds AND hl.date IN :dates",
+                        HabitLog.class)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setParameter("userHabitIds", userHabitIds)
+                .setParameter("dates", dates)
+                .getResultList()
+                .forEach(habitLog -> saved.put(
+                        new HabitLogKey(habitLog.getUserHabit().getId(), habitLog.getDate()), habitLog));
+
+        return habitLogs.stream()
+                .map(habitLog -> {
+                    HabitLog row = saved.get(new HabitLogKey(habitLog.getUserHabit().getId(), habitLog.getDate()));
+                    if (row == null) {
+                        throw new ConcurrencyFailureException(
+                                "habit_log upsert 후 행 없음: userHabitId=" + habitLog.getUserHabit().getId()
+                                        + ", date=" + habitLog.getDate());
+                    }
+                    return row;
+                })
+                .toList();
+    }
+}
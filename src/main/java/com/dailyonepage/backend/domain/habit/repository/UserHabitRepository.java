@@ -1,15 +1,25 @@
 package com.dailyonepage.backend.domain.habit.repository;
 
 import com.dailyonepage.backend.domain.habit.entity.UserHabit;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserHabitRepository extends JpaRepository<UserHabit, Long> {
 
+    // 체크/취소용 조회 (커밋 시 변경이 없어도 버전을 올려 같은 습관의 동시 수정을 충돌로 감지)
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    Optional<UserHabit> findLockedById(Long id);
+
     // 사용자의 습관 목록 (습관 정보와 함께)
     @Query("SELECT uh FROM UserHabit uh JOIN FETCH uh.habit WHERE uh.user.id = :userId")
     List<UserHabit> findByUserIdWithHabit(@Param("userId") Long userId);
@@ -18,6 +28,10 @@ public interface UserHabitRepository extends JpaRepository<UserHabit, Long> {
     @Query("SELECT uh FROM UserHabit uh JOIN FETCH uh.habit WHERE uh.id = :id")
     Optional<UserHabit> findByIdWithHabit(@Param("id") Long id);
 
+    // 여러 건 조회 (습관 정보와 함께, 일괄 체크용)
+    @Query("SELECT uh FROM UserHabit uh JOIN FETCH uh.habit WHERE uh.id IN :ids")
+    List<UserHabit> findAllByIdInWithHabit(@Param("ids") Collection<Long> ids);
+
     // 사용자의 특정 습관 조회
     Optional<UserHabit> findByUserIdAndHabitId(Long userId, Long habitId);
 
@@ -26,4 +40,34 @@ public interface UserHabitRepository extends JpaRepository<UserHabit, Long> {
 
     // 사용자의 습관 개수
     long countByUserId(Long userId);
+
+    // 끊긴 스트릭이 있는 사용자 ID 범위 (스트릭 만료 처리 분할용)
+    @Query("SELECT MIN(uh.user.id), MAX(uh.user.id) FROM UserHabit uh " +
+            "WHERE uh.currentStreak > 0 AND uh.lastCheckedDate < :yesterday")
+    List<Object[]> findExpiredStreakUserIdRange(@Param("yesterday") LocalDate yesterday);
+
+    // 끊긴 스트릭 대상 user_habit ID (사용자 ID 범위 내, ID 기준 keyset 페이지)
+    @Query("SELECT uh.id FROM UserHabit uh " +
+            "WHERE uh.user.id BETWEEN :fromUserId AND :toUserId AND uh.id > :afterId " +
+            "AND uh.currentStreak > 0 AND uh.lastCheckedDate < :yesterday " +
+            "ORDER BY uh.id")
+    List<Long> findExpiredStreaks(@Param("fromUserId") Long fromUserId,
+                                  @Param("toUserId") Long toUserId,
+                                  @Param("afterId") Long afterId,
+                                  @Param("yesterday") LocalDate yesterday,
+                                  Limit limit);
+
+    // 스트릭 일괄 초기화 (조회 이후 다시 체크된 습관은 조건에서 제외)
+    @Modifying
+    @Query("UPDATE UserHabit uh SET uh.currentStreak = 0, uh.version = uh.version + 1 " +
+            "WHERE uh.id IN :ids AND uh.lastCheckedDate < :yesterday")
+    int resetExpiredStreaks(@Param("ids") Collection<Long> ids, @Param("yesterday") LocalDate yesterday);
+
+    // 전체 user_habit ID 범위 (백필 파티션 분할용)
+    @Query("SELECT MIN(uh.id), MAX(uh.id) FROM UserHabit uh")
+    List<Object[]> findIdRange();
+
+    // ID 구간 (afterId, toId] keyset 페이지
+    @Query("SELECT uh FROM UserHabit uh WHERE uh.id > :afterId AND uh.id <= :toId ORDER BY uh.id")
+    List<UserHabit> findPage(@Param("afterId") Long afterId, @Param("toId") Long toId, Limit limit);
 }
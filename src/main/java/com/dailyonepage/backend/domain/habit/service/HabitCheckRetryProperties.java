@@ -0,0 +1,26 @@
+package com.dailyonepage.backend.domain.habit.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 습관 체크 충돌 재시도 설정값
+ *
+ * application.yml의 habit.check-retry.* 를 매핑
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "habit.check-retry")
+public class HabitCheckRetryProperties {
+
+    // 최초 시도 포함 최대 시도 횟수
+    private int maxAttempts = 5;
+
+    // 재시도 전 대기 시간 (시도마다 배로 늘리고 0~100% 지터 추가)
+    private Duration backoff = Duration.ofMillis(10);
+}
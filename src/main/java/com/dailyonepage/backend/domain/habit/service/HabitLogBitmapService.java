@@ -0,0 +1,303 @@
+package com.dailyonepage.backend.domain.habit.service;
+
+import com.dailyonepage.backend.domain.habit.entity.HabitLog;
+import com.dailyonepage.backend.domain.habit.entity.HabitLogBitmap;
+import com.dailyonepage.backend.domain.habit.entity.UserHabit;
+import com.dailyonepage.backend.domain.habit.repository.HabitLogBitmapRepository;
+import com.dailyonepage.backend.domain.habit.repository.HabitLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 습관 체크 비트맵 서비스
+ *
+ * habit_log와 함께 연도별 비트맵(HabitLogBitmap)을 유지하고,
+ * 스트릭/달성률/기간 조회를 비트 연산으로 계산한다.
+ * → 기록이 몇 년치 쌓여도 스트릭 재계산은 연도 비트맵 몇 개만 읽는다.
+ *
+ * 비트맵이 없는 연도는 해당 연도 habit_log로 만들고, 체크된 날이 있을 때만 저장한다. (한 번 만든 연도는 다시 만들지 않음)
+ * 체크가 없는 연도는 저장하지 않으므로 조회만으로 빈 행이 쌓이지 않는다. (다음 조회 때 다시 만들지만 빈 범위 조회 1번)
+ * - 쓰기 트랜잭션 안이면 같은 트랜잭션에서 저장
+ * - 읽기 전용 트랜잭션이면 별도 트랜잭션에서 저장 (다른 요청이 먼저 저장했으면 무시)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class HabitLogBitmapService {
+
+    private final HabitLogBitmapRepository habitLogBitmapRepository;
+    private final HabitLogRepository habitLogRepository;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public HabitLogBitmapService(HabitLogBitmapRepository habitLogBitmapRepository,
+                                 HabitLogRepository habitLogRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.habitLogBitmapRepository = habitLogBitmapRepository;
+        this.habitLogRepository = habitLogRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 체크 여부 반영 (habit_log 저장/삭제와 같은 트랜잭션에서 호출)
+     *
+     * @return 반영 전 체크 여부 (habit_log upsert 전에 호출해야 기존 값이 됨)
+     */
+    @Transactional
+    public boolean mark(UserHabit userHabit, LocalDate date, boolean checked) {
+        HabitLogBitmap bitmap = load(userHabit, date.getYear());
+        boolean previous = bitmap.isChecked(date);
+        bitmap.mark(date, checked);
+        if (bitmap.getId() == null) {
+            // 저장되지 않은 빈 연도 → 이번 체크로 비트가 생겼을 때만 저장
+            saveBuilt(List.of(bitmap));
+        }
+        return previous;
+    }
+
+    /**
+     * 여러 체크 기록 일괄 반영 (대상 비트맵을 한 번에 조회, 체크가 생긴 새 비트맵만 saveAll)
+     *
+     * @return 항목별 반영 전 체크 여부 (입력 순서)
+     */
+    @Transactional
+    public boolean[] markAll(List<HabitLog> habitLogs) {
+        boolean[] previous = new boolean[habitLogs.size()];
+        if (habitLogs.isEmpty()) {
+            return previous;
+        }
+
+        Set<Long> userHabitIds = new HashSet<>();
+        Set<Integer> years = new HashSet<>();
+        for (HabitLog habitLog : habitLogs) {
+            userHabitIds.add(habitLog.getUserHabit().getId());
+            years.add(habitLog.getDate().getYear());
+        }
+
+        Map<YearKey, HabitLogBitmap> bitmaps = new HashMap<>();
+        habitLogBitmapRepository.findByUserHabitIdInAndYearIn(userHabitIds, years)
+                .forEach(bitmap -> bitmaps.put(new YearKey(bitmap.getUserHabit().getId(), bitmap.getYear()), bitmap));
+
+        List<HabitLogBitmap> created = new ArrayList<>();
+        for (int i = 0; i < habitLogs.size(); i++) {
+            HabitLog habitLog = habitLogs.get(i);
+            UserHabit userHabit = habitLog.getUserHabit();
+            int year = habitLog.getDate().getYear();
+            HabitLogBitmap bitmap = bitmaps.computeIfAbsent(new YearKey(userHabit.getId(), year), key -> {
+                HabitLogBitmap built = build(userHabit, year);
+                created.add(built);
+                return built;
+            });
+            previous[i] = bitmap.isChecked(habitLog.getDate());
+            bitmap.mark(habitLog.getDate(), habitLog.isChecked());
+        }
+        saveBuilt(created);
+        return previous;
+    }
+
+    /**
+     * date에서 끝나는 연속 체크 일수 (date 포함, 연도 경계는 전년도 비트맵으로 이어서 계산)
+     */
+    public int runEndingAt(UserHabit userHabit, LocalDate date) {
+        int run = 0;
+        LocalDate cursor = date;
+        while (true) {
+            int yearRun = load(userHabit, cursor.getYear()).runEndingAt(cursor);
+            run += yearRun;
+            // 1월 1일까지 끊김 없이 이어졌을 때만 전년도로 계속
+            if (yearRun < cursor.getDayOfYear()) {
+                return run;
+            }
+            cursor = LocalDate.of(cursor.getYear() - 1, 12, 31);
+        }
+    }
+
+    /**
+     * date에서 시작해 until까지 이어진 연속 체크 일수 (date 포함, 연도 경계는 다음 연도 비트맵으로 이어서 계산)
+     */
+    public int runStartingAt(UserHabit userHabit, LocalDate date, LocalDate until) {
+        if (date.isAfter(until)) {
+            return 0;
+        }
+        int run = 0;
+        LocalDate cursor = date;
+        while (!cursor.isAfter(until)) {
+            int yearRun = load(userHabit, cursor.getYear()).runStartingAt(cursor);
+            run += yearRun;
+            // 12월 31일까지 끊김 없이 이어졌을 때만 다음 연도로 계속
+            if (yearRun < cursor.lengthOfYear() - cursor.getDayOfYear() + 1) {
+                break;
+            }
+            cursor = LocalDate.of(cursor.getYear() + 1, 1, 1);
+        }
+        return Math.min(run, (int) (until.toEpochDay() - date.toEpochDay()) + 1);
+    }
+
+    /**
+     * 전체 기간 최장 연속 체크 일수 (최장 기록이 깨질 수 있는 취소 시에만 사용)
+     * 첫 체크 연도부터 마지막 체크 연도까지 연도 비트맵을 64비트 단위로 훑는다.
+     * 한 워드에서 아래쪽 연속 1은 앞 구간에 이어 붙이고, 위쪽 연속 1은 다음 워드(다음 연도)로 넘긴다.
+     */
+    public int longestRun(UserHabit userHabit) {
+        LocalDate first = habitLogRepository.findFirstCheckedDate(userHabit.getId()).orElse(null);
+        LocalDate last = findLastCheckedDate(userHabit);
+        if (first == null || last == null) {
+            return 0;
+        }
+
+        Map<Integer, HabitLogBitmap> bitmaps = loadYears(userHabit, first, last);
+        int longest = 0;
+        int current = 0;
+        for (int year = first.getYear(); year <= last.getYear(); year++) {
+            long[] words = bitmaps.get(year).toWords();
+            int days = Year.of(year).length();
+            for (int w = 0; w * Long.SIZE < days; w++) {
+                int width = Math.min(Long.SIZE, days - w * Long.SIZE);
+                long mask = width == Long.SIZE ? -1L : (1L << width) - 1;
+                long word = words[w] & mask;
+
+                if (word == mask) {
+                    // 워드 전체가 체크됨 → 구간이 그대로 이어짐
+                    current += width;
+                    longest = Math.max(longest, current);
+                    continue;
+                }
+                int head = Long.numberOfTrailingZeros(~word);
+                int tail = width - 1 - (Long.SIZE - 1 - Long.numberOfLeadingZeros(~word & mask));
+                longest = Math.max(longest, Math.max(current + head, longestOnes(word)));
+                current = tail;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * 가장 최근 체크 날짜 (없으면 null)
+     */
+    public LocalDate findLastCheckedDate(UserHabit userHabit) {
+        return habitLogRepository.findLastCheckedDate(userHabit.getId()).orElse(null);
+    }
+
+    /**
+     * 기간 내 체크 일수 / 전체 일수
+     */
+    public RangeSummary summarize(UserHabit userHabit, LocalDate from, LocalDate to) {
+        int checkedDays = 0;
+        for (Map.Entry<Integer, HabitLogBitmap> entry : loadYears(userHabit, from, to).entrySet()) {
+            int year = entry.getKey();
+            checkedDays += entry.getValue().countChecked(maxDate(from, LocalDate.of(year, 1, 1)),
+                    minDate(to, LocalDate.of(year, 12, 31)));
+        }
+        int totalDays = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+        return new RangeSummary(checkedDays, totalDays);
+    }
+
+    /**
+     * 연도 비트맵 조회 (없으면 habit_log로 생성, 체크가 있으면 저장)
+     */
+    private HabitLogBitmap load(UserHabit userHabit, int year) {
+        return habitLogBitmapRepository.findByUserHabitIdAndYear(userHabit.getId(), year)
+                .orElseGet(() -> {
+                    HabitLogBitmap built = build(userHabit, year);
+                    saveBuilt(List.of(built));
+                    return built;
+                });
+    }
+
+    /**
+     * 연도 범위 비트맵 조회 (저장된 것은 한 번에, 없는 연도만 생성해 체크가 있으면 저장)
+     */
+    private Map<Integer, HabitLogBitmap> loadYears(UserHabit userHabit, LocalDate from, LocalDate to) {
+        Map<Integer, HabitLogBitmap> bitmaps = new HashMap<>();
+        habitLogBitmapRepository.findByUserHabitIdAndYearBetween(userHabit.getId(), from.getYear(), to.getYear())
+                .forEach(bitmap -> bitmaps.put(bitmap.getYear(), bitmap));
+
+        List<HabitLogBitmap> built = new ArrayList<>();
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            bitmaps.computeIfAbsent(year, y -> {
+                HabitLogBitmap bitmap = build(userHabit, y);
+                built.add(bitmap);
+                return bitmap;
+            });
+        }
+        saveBuilt(built);
+        return bitmaps;
+    }
+
+    /**
+     * 새로 만든 비트맵 중 체크가 있는 것만 저장
+     * 쓰기 트랜잭션이면 그 안에서, 읽기 전용 트랜잭션이면 별도 트랜잭션으로 저장한다.
+     */
+    private void saveBuilt(List<HabitLogBitmap> candidates) {
+        List<HabitLogBitmap> built = candidates.stream()
+                .filter(bitmap -> !bitmap.isEmpty())
+                .toList();
+        if (built.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            habitLogBitmapRepository.saveAll(built);
+            return;
+        }
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> habitLogBitmapRepository.saveAll(built));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 연도 비트맵을 다른 요청이 먼저 저장함 → 이번 조회는 만든 값 그대로 사용
+            log.debug("비트맵 동시 생성, 저장 생략: userHabitId={}", built.get(0).getUserHabit().getId());
+        }
+    }
+
+    /**
+     * 워드 안에서 가장 긴 연속 1 (한 번 할 때마다 각 구간이 1비트씩 줄어듦)
+     */
+    private static int longestOnes(long word) {
+        int length = 0;
+        while (word != 0) {
+            word &= word << 1;
+            length++;
+        }
+        return length;
+    }
+
+    private HabitLogBitmap build(UserHabit userHabit, int year) {
+        List<LocalDate> checkedDates = habitLogRepository.findCheckedDates(
+                userHabit.getId(), LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+        return HabitLogBitmap.of(userHabit, year, checkedDates);
+    }
+
+    private static LocalDate maxDate(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate minDate(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private record YearKey(Long userHabitId, int year) {
+    }
+
+    /**
+     * 기간 달성 요약
+     */
+    public record RangeSummary(int checkedDays, int totalDays) {
+
+        public double completionRate() {
+            return totalDays == 0 ? 0 : (double) checkedDays / totalDays;
+        }
+    }
+}
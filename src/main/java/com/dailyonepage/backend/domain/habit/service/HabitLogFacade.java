@@ -0,0 +1,108 @@
+package com.dailyonepage.backend.domain.habit.service;
+
+import com.dailyonepage.backend.domain.habit.dto.HabitLogBulkCreateRequest;
+import com.dailyonepage.backend.domain.habit.dto.HabitLogBulkResponse;
+import com.dailyonepage.backend.domain.habit.dto.HabitLogCreateRequest;
+import com.dailyonepage.backend.global.exception.BusinessException;
+import com.dailyonepage.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 습관 체크/취소 재시도 파사드
+ *
+ * UserHabit(@Version)과 연도 비트맵(@Version)은 낙관적 락으로 보호되므로,
+ * 같은 습관을 동시에 수정하면 늦게 커밋하는 쪽이 충돌 예외로 롤백된다.
+ * 여기서 트랜잭션 바깥에서 전체 작업을 새 트랜잭션으로 다시 실행한다. (최대 maxAttempts회)
+ *
+ * - ConcurrencyFailureException: 버전 충돌, 락 대기 실패, 데드락
+ * - DataIntegrityViolationException: 같은 연도 비트맵/체크 기록을 동시에 처음 INSERT
+ *
+ * 체크는 (습관, 날짜) upsert라 멱등, 취소는 이미 삭제됐으면 HABIT_LOG_NOT_FOUND라 재실행해도 안전하다.
+ * 재시도를 모두 소진하면 409 (CONCURRENT_UPDATE)
+ *
+ * 메트릭: habit.check.retry{operation} (재시도 횟수), habit.check.conflict{operation} (소진)
+ */
+@Slf4j
+@Component
+public class HabitLogFacade {
+
+    private final HabitLogService habitLogService;
+    private final HabitCheckRetryProperties properties;
+    private final RetryMeters checkMeters;
+    private final RetryMeters bulkCheckMeters;
+    private final RetryMeters cancelMeters;
+
+    public HabitLogFacade(HabitLogService habitLogService,
+                          HabitCheckRetryProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.habitLogService = habitLogService;
+        this.properties = properties;
+        this.checkMeters = RetryMeters.register(meterRegistry, "check");
+        this.bulkCheckMeters = RetryMeters.register(meterRegistry, "bulk_check");
+        this.cancelMeters = RetryMeters.register(meterRegistry, "cancel");
+    }
+
+    public HabitLogService.CheckResult checkHabit(Long userId, HabitLogCreateRequest request) {
+        return retry(checkMeters, () -> habitLogService.checkHabit(userId, request));
+    }
+
+    public HabitLogBulkResponse checkHabits(Long userId, HabitLogBulkCreateRequest request) {
+        return retry(bulkCheckMeters, () -> habitLogService.checkHabits(userId, request));
+    }
+
+    public void cancelCheck(Long userId, Long habitLogId) {
+        retry(cancelMeters, () -> {
+            habitLogService.cancelCheck(userId, habitLogId);
+            return null;
+        });
+    }
+
+    private <T> T retry(RetryMeters meters, Supplier<T> action) {
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt >= maxAttempts) {
+                    meters.conflict().increment();
+                    log.warn("습관 수정 충돌, 재시도 소진: operation={}, attempts={}", meters.operation(), attempt, e);
+                    throw new BusinessException(ErrorCode.CONCURRENT_UPDATE);
+                }
+                meters.retry().increment();
+                log.debug("습관 수정 충돌, 재시도: operation={}, attempt={}", meters.operation(), attempt);
+                sleep(attempt);
+            }
+        }
+    }
+
+    private void sleep(int attempt) {
+        long base = properties.getBackoff().toMillis() << Math.min(attempt - 1, 6);
+        long delay = base + ThreadLocalRandom.current().nextLong(base + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CONCURRENT_UPDATE);
+        }
+    }
+
+    /**
+     * 작업별 재시도/소진 카운터 (생성 시 한 번만 등록)
+     */
+    private record RetryMeters(String operation, Counter retry, Counter conflict) {
+
+        static RetryMeters register(MeterRegistry meterRegistry, String operation) {
+            return new RetryMeters(operation,
+                    Counter.builder("habit.check.retry").tag("operation", operation).register(meterRegistry),
+                    Counter.builder("habit.check.conflict").tag("operation", operation).register(meterRegistry));
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.dailyonepage.backend.domain.habit.service;
 
+import com.dailyonepage.backend.domain.habit.dto.HabitHeatmapResponse;
+import com.dailyonepage.backend.domain.habit.dto.HabitLogBulkCreateRequest;
+import com.dailyonepage.backend.domain.habit.dto.HabitLogBulkResponse;
 import com.dailyonepage.backend.domain.habit.dto.HabitLogCreateRequest;
 import com.dailyonepage.backend.domain.habit.dto.HabitLogListResponse;
 import com.dailyonepage.backend.domain.habit.dto.HabitLogResponse;
 import com.dailyonepage.backend.domain.habit.entity.HabitLog;
 import com.dailyonepage.backend.domain.habit.entity.UserHabit;
+import com.dailyonepage.backend.domain.habit.repository.HabitLogKey;
 import com.dailyonepage.backend.domain.habit.repository.HabitLogRepository;
 import com.dailyonepage.backend.domain.habit.repository.UserHabitRepository;
 import com.dailyonepage.backend.global.exception.BusinessException;
@@ -14,8 +18,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigInteger;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 습관 체크 기록 서비스
@@ -28,16 +42,25 @@ import java.util.List;
 @RequiredArgsConstructor
 public class HabitLogService {
 
+    // 체크 가능한 기간 (오늘 포함 최근 7일)
+    private static final int CHECK_WINDOW_DAYS = 7;
+
+    // 히트맵 최대 조회 기간 (윤년 1년)
+    private static final int MAX_HEATMAP_DAYS = 366;
+
     private final HabitLogRepository habitLogRepository;
     private final UserHabitRepository userHabitRepository;
+    private final HabitLogBitmapService habitLogBitmapService;
+    private final HabitStreakService habitStreakService;
 
     /**
      * 습관 체크
+     * (습관, 날짜)가 멱등 키: 같은 요청이 다시 오면 새로 만들지 않고 기존 기록의 checked를 요청 값으로 바꾼다.
      */
     @Transactional
-    public HabitLogResponse checkHabit(Long userId, HabitLogCreateRequest request) {
-        // UserHabit 조회
-        UserHabit userHabit = userHabitRepository.findById(request.getUserHabitId())
+    public CheckResult checkHabit(Long userId, HabitLogCreateRequest request) {
+        // UserHabit 조회 (버전 강제 증가: 같은 습관의 동시 체크는 한쪽만 커밋되고 나머지는 재시도)
+        UserHabit userHabit = userHabitRepository.findLockedById(request.getUserHabitId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_HABIT_NOT_FOUND));
 
         // 본인 습관인지 확인
@@ -45,67 +68,189 @@ public class HabitLogService {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
+        LocalDate today = LocalDate.now();
         LocalDate date = request.getDateOrToday();
         boolean checked = request.isCheckedOrDefault();
 
-        // 이미 해당 날짜에 기록이 있는지 확인
-        if (habitLogRepository.findByUserHabitIdAndDate(request.getUserHabitId(), date).isPresent()) {
-            throw new BusinessException(ErrorCode.DUPLICATE_HABIT_LOG);
+        // 지난 날짜는 최근 7일까지만 기록 가능 (미래 날짜 불가)
+        if (!isWithinCheckWindow(date, today)) {
+            throw new BusinessException(ErrorCode.HABIT_LOG_DATE_OUT_OF_RANGE);
         }
 
-        // HabitLog 생성
-        HabitLog habitLog = HabitLog.builder()
+        // 비트맵 반영 (반영 전 값 = 기존 체크 여부, upsert 전에 읽어야 함)
+        boolean wasChecked = habitLogBitmapService.mark(userHabit, date, checked);
+
+        // upsert (유니크 제약 기준, 기존 기록이 있으면 checked만 변경)
+        HabitLog requested = HabitLog.builder()
                 .userHabit(userHabit)
                 .date(date)
                 .checked(checked)
                 .build();
+        HabitLog habitLog = habitLogRepository.upsert(requested);
+        boolean created = habitLog.getId().equals(requested.getId());
 
-        HabitLog savedLog = habitLogRepository.save(habitLog);
+        // 스트릭 업데이트 (체크 여부가 바뀐 경우만, 지난 날짜 체크는 앞뒤 구간을 이어 붙임)
+        applyStreakChange(userHabit, date, wasChecked, checked, today);
 
-        // 스트릭 업데이트 (체크된 경우만)
-        if (checked) {
-            userHabit.checkHabit(date);
+        log.info("습관 체크: userId={}, userHabitId={}, date={}, checked={}, created={}",
+                userId, userHabit.getId(), date, checked, created);
+
+        return new CheckResult(HabitLogResponse.from(habitLog), created);
+    }
+
+    /**
+     * 습관 일괄 체크
+     *
+     * 대상 습관 조회 1회, 저장은 upsert JDBC 배치로 처리하고
+     * 항목별 성공/실패를 요청 순서대로 반환한다. (실패 항목이 있어도 나머지는 저장)
+     * 단건 체크와 같이 (습관, 날짜)가 멱등 키: 이미 기록이 있으면 checked를 요청 값으로 바꾸고 기존 기록을 반환한다.
+     * (같은 요청 안에서 같은 조합이 반복되면 두 번째부터 DUPLICATE_HABIT_LOG)
+     */
+    @Transactional
+    public HabitLogBulkResponse checkHabits(Long userId, HabitLogBulkCreateRequest request) {
+        LocalDate today = LocalDate.now();
+        List<HabitLogCreateRequest> items = request.getItems();
+
+        // 1. 대상 UserHabit 일괄 조회 (습관 정보 포함)
+        Set<Long> userHabitIds = items.stream()
+                .map(HabitLogCreateRequest::getUserHabitId)
+                .collect(Collectors.toSet());
+        Map<Long, UserHabit> userHabits = userHabitRepository.findAllByIdInWithHabit(userHabitIds).stream()
+                .collect(Collectors.toMap(UserHabit::getId, Function.identity()));
+
+        // 2. 항목별 검증 (요청 안에서 같은 조합이 반복되면 두 번째부터 중복 처리)
+        Set<HabitLogKey> requestedKeys = new HashSet<>();
+        HabitLog[] created = new HabitLog[items.size()];
+        ErrorCode[] failures = new ErrorCode[items.size()];
+        List<HabitLog> newLogs = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            HabitLogCreateRequest item = items.get(i);
+            UserHabit userHabit = userHabits.get(item.getUserHabitId());
+            LocalDate date = item.getDateOrToday();
+
+            if (userHabit == null) {
+                failures[i] = ErrorCode.USER_HABIT_NOT_FOUND;
+            } else if (!userHabit.getUser().getId().equals(userId)) {
+                failures[i] = ErrorCode.ACCESS_DENIED;
+            } else if (!isWithinCheckWindow(date, today)) {
+                failures[i] = ErrorCode.HABIT_LOG_DATE_OUT_OF_RANGE;
+            } else if (!requestedKeys.add(new HabitLogKey(userHabit.getId(), date))) {
+                failures[i] = ErrorCode.DUPLICATE_HABIT_LOG;
+            } else {
+                created[i] = HabitLog.builder()
+                        .userHabit(userHabit)
+                        .date(date)
+                        .checked(item.isCheckedOrDefault())
+                        .build();
+                newLogs.add(created[i]);
+            }
+        }
+
+        // 3. 비트맵 반영 (반영 전 값 = 기존 체크 여부) + 일괄 upsert (JDBC 배치)
+        boolean[] wasChecked = habitLogBitmapService.markAll(newLogs);
+        List<HabitLog> savedLogs = habitLogRepository.upsertAll(newLogs);
+        List<HabitLog> changedLogs = new ArrayList<>();
+        for (int i = 0, n = 0; i < items.size(); i++) {
+            if (created[i] != null) {
+                if (created[i].isChecked() != wasChecked[n]) {
+                    changedLogs.add(created[i]);
+                }
+                created[i] = savedLogs.get(n++);
+            }
+        }
+
+        // 4. 스트릭 업데이트 (체크 여부가 바뀐 항목만, 날짜순)
+        changedLogs.stream()
+                .sorted(Comparator.comparing(HabitLog::getDate))
+                .forEach(habitLog -> {
+                    UserHabit userHabit = habitLog.getUserHabit();
+                    if (habitLog.isChecked()) {
+                        habitStreakService.onChecked(userHabit, habitLog.getDate(), today);
+                    } else {
+                        habitStreakService.onUnchecked(userHabit, habitLog.getDate(), today);
+                    }
+                });
+
+        // 5. 항목별 결과 (스트릭 반영 후 응답 생성)
+        List<HabitLogBulkResponse.ItemResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            results.add(created[i] != null
+                    ? HabitLogBulkResponse.ItemResult.success(HabitLogResponse.from(created[i]))
+                    : HabitLogBulkResponse.ItemResult.failure(
+                            items.get(i).getUserHabitId(), items.get(i).getDateOrToday(), failures[i]));
         }
 
-        log.info("습관 체크: userId={}, userHabitId={}, date={}, checked={}",
-                userId, userHabit.getId(), date, checked);
+        log.info("습관 일괄 체크: userId={}, requested={}, saved={}", userId, items.size(), savedLogs.size());
 
-        return HabitLogResponse.from(savedLog);
+        return HabitLogBulkResponse.of(results);
     }
 
     /**
      * 특정 날짜의 습관 기록 조회
-     * 등록된 모든 습관 + 해당 날짜 체크 여부 반환
+     * 등록된 모든 습관 + 해당 날짜 체크 여부 반환 (LEFT JOIN 쿼리 1번)
      */
     public HabitLogListResponse getLogsByDate(Long userId, LocalDate date) {
-        // 1. 사용자가 등록한 모든 습관 조회
-        List<UserHabit> userHabits = userHabitRepository.findByUserIdWithHabit(userId);
-
-        // 2. 해당 날짜의 체크 기록 조회
-        List<HabitLog> logs = habitLogRepository.findByUserIdAndDate(userId, date);
-
-        // 3. 체크 기록을 Map으로 변환 (userHabitId -> HabitLog)
-        java.util.Map<Long, HabitLog> logMap = logs.stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        log -> log.getUserHabit().getId(),
-                        log -> log
-                ));
-
-        // 4. 모든 습관에 대해 응답 생성 (체크 여부 포함)
-        List<HabitLogResponse> responses = userHabits.stream()
-                .map(userHabit -> {
-                    HabitLog log = logMap.get(userHabit.getId());
-                    if (log != null) {
-                        return HabitLogResponse.from(log);
-                    } else {
-                        return HabitLogResponse.fromUserHabitUnchecked(userHabit, date);
-                    }
-                })
-                .toList();
-
+        List<HabitLogResponse> responses = habitLogRepository.findDailyLogs(userId, date);
         return HabitLogListResponse.of(date, responses);
     }
 
+    /**
+     * 기간 히트맵 조회
+     * 체크 기록은 쿼리 1번으로 가져와 날짜별 비트마스크로 압축한다. (userHabitId가 있으면 해당 습관만)
+     * - 습관 목록: 습관 정보를 fetch join으로 함께 조회 (이름 지연 로딩 쿼리 없음)
+     * - 습관 1개: findByUserHabitIdAndDateBetween과 같은 조건에서 체크된 날짜만 조회 (findCheckedDates)
+     */
+    public HabitHeatmapResponse getHeatmap(Long userId, LocalDate from, LocalDate to, Long userHabitId) {
+        if (from.isAfter(to) || to.toEpochDay() - from.toEpochDay() >= MAX_HEATMAP_DAYS) {
+            throw new BusinessException(ErrorCode.HABIT_LOG_RANGE_INVALID);
+        }
+
+        List<UserHabit> userHabits;
+        List<HabitLogKey> checkedKeys;
+        if (userHabitId != null) {
+            UserHabit userHabit = userHabitRepository.findByIdWithHabit(userHabitId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_HABIT_NOT_FOUND));
+            if (!userHabit.getUser().getId().equals(userId)) {
+                throw new BusinessException(ErrorCode.ACCESS_DENIED);
+            }
+            userHabits = List.of(userHabit);
+            checkedKeys = habitLogRepository.findCheckedDates(userHabitId, from, to).stream()
+                    .map(date -> new HabitLogKey(userHabitId, date))
+                    .toList();
+        } else {
+            userHabits = userHabitRepository.findByUserIdWithHabit(userId).stream()
+                    .sorted(Comparator.comparing(UserHabit::getId))
+                    .toList();
+            checkedKeys = habitLogRepository.findCheckedKeysByUserIdAndDateBetween(userId, from, to);
+        }
+
+        // 습관 → 비트 위치
+        Map<Long, Integer> bits = new HashMap<>();
+        List<HabitHeatmapResponse.HabitEntry> habits = new ArrayList<>(userHabits.size());
+        for (UserHabit userHabit : userHabits) {
+            habits.add(HabitHeatmapResponse.HabitEntry.of(bits.size(), userHabit));
+            bits.put(userHabit.getId(), bits.size());
+        }
+
+        BigInteger[] masks = new BigInteger[(int) (to.toEpochDay() - from.toEpochDay()) + 1];
+        Arrays.fill(masks, BigInteger.ZERO);
+        for (HabitLogKey key : checkedKeys) {
+            Integer bit = bits.get(key.userHabitId());
+            if (bit != null) {
+                int day = (int) (key.date().toEpochDay() - from.toEpochDay());
+                masks[day] = masks[day].setBit(bit);
+            }
+        }
+
+        return HabitHeatmapResponse.builder()
+                .from(from)
+                .to(to)
+                .habits(habits)
+                .days(Arrays.stream(masks).map(mask -> mask.toString(16)).toList())
+                .build();
+    }
+
     /**
      * 습관 체크 취소
      */
@@ -119,46 +264,50 @@ public class HabitLogService {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
-        UserHabit userHabit = habitLog.getUserHabit();
+        UserHabit userHabit = userHabitRepository.findLockedById(habitLog.getUserHabit().getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_HABIT_NOT_FOUND));
         LocalDate logDate = habitLog.getDate();
 
         // 로그 삭제
         habitLogRepository.delete(habitLog);
+        habitLogBitmapService.mark(userHabit, logDate, false);
 
-        // 스트릭 재계산 (오늘 체크 취소 시)
-        if (logDate.equals(LocalDate.now()) || logDate.equals(userHabit.getLastCheckedDate())) {
-            recalculateStreak(userHabit);
+        // 스트릭 재계산 (삭제된 날짜 주변 구간만)
+        if (habitLog.isChecked()) {
+            LocalDate today = LocalDate.now();
+            habitStreakService.onUnchecked(userHabit, logDate, today);
         }
 
         log.info("습관 체크 취소: userId={}, habitLogId={}, date={}", userId, habitLogId, logDate);
     }
 
     /**
-     * 스트릭 재계산
+     * 체크 여부가 바뀐 경우에만 스트릭 재계산
      */
-    private void recalculateStreak(UserHabit userHabit) {
-        List<HabitLog> checkedLogs = habitLogRepository
-                .findCheckedLogsByUserHabitIdOrderByDateDesc(userHabit.getId());
-
-        if (checkedLogs.isEmpty()) {
-            userHabit.resetStreak();
+    private void applyStreakChange(UserHabit userHabit, LocalDate date, boolean wasChecked, boolean checked,
+                                   LocalDate today) {
+        if (wasChecked == checked) {
             return;
         }
-
-        // 연속된 날짜 계산
-        int streak = 0;
-        LocalDate expectedDate = LocalDate.now();
-
-        for (HabitLog log : checkedLogs) {
-            if (log.getDate().equals(expectedDate) || log.getDate().equals(expectedDate.minusDays(1))) {
-                streak++;
-                expectedDate = log.getDate().minusDays(1);
-            } else {
-                break;
-            }
+        if (checked) {
+            habitStreakService.onChecked(userHabit, date, today);
+        } else {
+            habitStreakService.onUnchecked(userHabit, date, today);
         }
+    }
 
-        LocalDate lastDate = checkedLogs.isEmpty() ? null : checkedLogs.get(0).getDate();
-        userHabit.recalculateStreak(streak, lastDate);
+    /**
+     * 체크 가능한 날짜인지 (오늘 포함 최근 7일, 미래 불가)
+     */
+    private static boolean isWithinCheckWindow(LocalDate date, LocalDate today) {
+        return !date.isAfter(today) && !date.isBefore(today.minusDays(CHECK_WINDOW_DAYS - 1));
+    }
+
+    /**
+     * 습관 체크 결과
+     *
+     * @param created 새로 만들어졌으면 true, 기존 기록이었으면 false
+     */
+    public record CheckResult(HabitLogResponse response, boolean created) {
     }
 }
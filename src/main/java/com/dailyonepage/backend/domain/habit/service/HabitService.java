@@ -1,20 +1,26 @@
 package com.dailyonepage.backend.domain.habit.service;
 
 import com.dailyonepage.backend.domain.badge.entity.BadgeSet;
+import com.dailyonepage.backend.domain.badge.event.BadgeCatalogChangedEvent;
 import com.dailyonepage.backend.domain.badge.repository.BadgeSetRepository;
 import com.dailyonepage.backend.domain.habit.dto.*;
 import com.dailyonepage.backend.domain.habit.entity.Habit;
 import com.dailyonepage.backend.domain.habit.repository.HabitRepository;
 import com.dailyonepage.backend.domain.user.entity.User;
 import com.dailyonepage.backend.domain.user.repository.UserRepository;
+import com.dailyonepage.backend.global.common.CatalogResponseCache;
 import com.dailyonepage.backend.global.exception.BusinessException;
 import com.dailyonepage.backend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 습관 서비스
@@ -30,19 +36,35 @@ public class HabitService {
     private final HabitRepository habitRepository;
     private final BadgeSetRepository badgeSetRepository;
     private final UserRepository userRepository;
+    private final CatalogResponseCache catalogResponseCache;
+
+    /**
+     * 뱃지 카탈로그를 다시 읽으면 시스템 습관 목록 응답 캐시 삭제 (응답에 뱃지세트 미리보기 포함)
+     */
+    @EventListener(BadgeCatalogChangedEvent.class)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void onBadgeCatalogChanged() {
+        catalogResponseCache.invalidate(CatalogResponseCache.SYSTEM_HABITS);
+    }
 
     /**
      * 시스템 습관 목록 조회 (뱃지세트 미리보기 포함)
+     * 시스템 습관 + 연결된 시스템 뱃지세트 조회 (습관 1번 + 뱃지세트 IN 1번)
+     * 모든 사용자에게 같은 응답이라 컨트롤러에서 CatalogResponseCache로 캐시한다. (캐시 미스일 때만 호출)
      */
     public SystemHabitListResponse getSystemHabits() {
         List<Habit> systemHabits = habitRepository.findSystemHabits();
+        if (systemHabits.isEmpty()) {
+            return SystemHabitListResponse.from(List.of());
+        }
+
+        Map<Long, List<BadgeSet>> badgeSetsByHabit = badgeSetRepository.findSystemBadgeSetsByHabitIds(
+                        systemHabits.stream().map(Habit::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(badgeSet -> badgeSet.getHabit().getId()));
 
         List<SystemHabitResponse> responses = systemHabits.stream()
-                .map(habit -> {
-                    // 해당 습관에 연결된 뱃지세트 조회 (시스템 뱃지세트만)
-                    List<BadgeSet> badgeSets = badgeSetRepository.findSystemBadgeSetsByHabitId(habit.getId());
-                    return SystemHabitResponse.of(habit, badgeSets);
-                })
+                .map(habit -> SystemHabitResponse.of(habit, badgeSetsByHabit.getOrDefault(habit.getId(), List.of())))
                 .toList();
 
         return SystemHabitListResponse.from(responses);
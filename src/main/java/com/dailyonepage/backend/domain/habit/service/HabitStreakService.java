@@ -0,0 +1,125 @@
+package com.dailyonepage.backend.domain.habit.service;
+
+import com.dailyonepage.backend.domain.habit.entity.UserHabit;
+import com.dailyonepage.backend.domain.habit.event.StreakChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 스트릭 증분 계산
+ *
+ * 체크가 추가/삭제된 날짜 d 주변의 연속 구간 경계만 비트맵으로 다시 구한다.
+ * - left: d-1에서 끝나는 연속 일수, right: d+1부터 오늘까지 이어지는 연속 일수
+ * - 추가: d가 속한 구간 = left + 1 + right
+ * - 삭제: 구간이 left와 right로 나뉨
+ *
+ * currentStreak: 마지막 체크 날짜(lastCheckedDate)에서 끝나는 구간 길이 (오늘/어제가 아니면 0)
+ * longestStreak: 전체 기간 최장 구간 길이 (최장 구간이 깨진 경우에만 전체 비트맵을 다시 훑음)
+ *
+ * 비트맵(HabitLogBitmapService.mark) 반영 후 같은 트랜잭션에서 호출해야 한다.
+ * 계산 후 StreakChangedEvent를 발행한다. (뱃지 진행은 커밋 후 구독자가 처리)
+ */
+@Service
+@RequiredArgsConstructor
+public class HabitStreakService {
+
+    private final HabitLogBitmapService habitLogBitmapService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 체크 추가 반영
+     */
+    @Transactional
+    public void onChecked(UserHabit userHabit, LocalDate date, LocalDate today) {
+        int left = habitLogBitmapService.runEndingAt(userHabit, date.minusDays(1));
+        int right = habitLogBitmapService.runStartingAt(userHabit, date.plusDays(1), today);
+        int runLength = left + 1 + right;
+        LocalDate runEnd = date.plusDays(right);
+
+        LocalDate previousLast = userHabit.getLastCheckedDate();
+        LocalDate lastCheckedDate = previousLast == null || runEnd.isAfter(previousLast) ? runEnd : previousLast;
+
+        int currentStreak;
+        if (runEnd.equals(lastCheckedDate)) {
+            // 추가된 날짜가 마지막 구간에 붙음
+            currentStreak = runLength;
+        } else {
+            // 더 오래된 구간에 추가됨 → 마지막 구간은 그대로
+            currentStreak = userHabit.getCurrentStreak();
+        }
+
+        userHabit.updateStreak(live(currentStreak, lastCheckedDate, today), lastCheckedDate,
+                Math.max(userHabit.getLongestStreak(), runLength));
+        publishChanged(userHabit);
+    }
+
+    /**
+     * 체크 삭제 반영
+     *
+     * 삭제할 체크가 있었는데 lastCheckedDate가 비어 있으면 저장된 스트릭이 기록과 어긋난 것이다.
+     * (스트릭 컬럼을 채우기 전에 쌓인 기록 등) 이때는 증분 계산의 기준이 없으므로 전체를 다시 계산한다.
+     */
+    @Transactional
+    public void onUnchecked(UserHabit userHabit, LocalDate date, LocalDate today) {
+        LocalDate previousLast = userHabit.getLastCheckedDate();
+        if (previousLast == null) {
+            recompute(userHabit, today);
+            return;
+        }
+
+        int left = habitLogBitmapService.runEndingAt(userHabit, date.minusDays(1));
+        int right = habitLogBitmapService.runStartingAt(userHabit, date.plusDays(1), today);
+        int brokenRunLength = left + 1 + right;
+
+        LocalDate lastCheckedDate = previousLast;
+        int currentStreak = userHabit.getCurrentStreak();
+
+        if (date.equals(previousLast)) {
+            // 마지막 체크가 삭제됨 → 바로 전날까지 이어졌으면 그 구간이 마지막 구간
+            lastCheckedDate = left > 0 ? date.minusDays(1) : habitLogBitmapService.findLastCheckedDate(userHabit);
+            currentStreak = left > 0 ? left
+                    : lastCheckedDate == null ? 0 : habitLogBitmapService.runEndingAt(userHabit, lastCheckedDate);
+        } else if (date.isBefore(previousLast) && date.plusDays(right).equals(previousLast)) {
+            // 마지막 구간 중간이 삭제됨 → 뒤쪽만 남음
+            currentStreak = right;
+        }
+
+        // 최장 구간이 깨졌을 수 있을 때만 전체 재계산
+        int longestStreak = userHabit.getLongestStreak();
+        if (brokenRunLength >= longestStreak) {
+            longestStreak = habitLogBitmapService.longestRun(userHabit);
+        }
+
+        userHabit.updateStreak(live(currentStreak, lastCheckedDate, today), lastCheckedDate, longestStreak);
+        publishChanged(userHabit);
+    }
+
+    /**
+     * 남은 기록 전체로 스트릭 재계산 (마지막 체크 날짜에서 끝나는 구간 + 전체 최장 구간)
+     */
+    private void recompute(UserHabit userHabit, LocalDate today) {
+        LocalDate lastCheckedDate = habitLogBitmapService.findLastCheckedDate(userHabit);
+        int currentStreak = lastCheckedDate == null ? 0 : habitLogBitmapService.runEndingAt(userHabit, lastCheckedDate);
+        userHabit.updateStreak(live(currentStreak, lastCheckedDate, today), lastCheckedDate,
+                habitLogBitmapService.longestRun(userHabit));
+        publishChanged(userHabit);
+    }
+
+    private void publishChanged(UserHabit userHabit) {
+        eventPublisher.publishEvent(new StreakChangedEvent(userHabit.getUser().getId(), userHabit.getId()));
+    }
+
+    /**
+     * 마지막 체크가 오늘/어제가 아니면 이미 끊긴 스트릭
+     */
+    private static int live(int currentStreak, LocalDate lastCheckedDate, LocalDate today) {
+        if (lastCheckedDate == null || lastCheckedDate.isBefore(today.minusDays(1))) {
+            return 0;
+        }
+        return currentStreak;
+    }
+}
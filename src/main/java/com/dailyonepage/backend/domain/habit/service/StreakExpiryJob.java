@@ -0,0 +1,147 @@
+package com.dailyonepage.backend.domain.habit.service;
+
+import com.dailyonepage.backend.domain.habit.repository.UserHabitRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스트릭 만료 처리 (매일 자정 직후)
+ *
+ * 마지막 체크가 어제보다 오래된 습관의 currentStreak를 0으로 일괄 초기화한다.
+ * 덕분에 조회 API는 저장된 값을 그대로 쓰면 되고 습관마다 "아직 이어지는 중인지" 계산하지 않는다.
+ *
+ * - 대상 사용자 ID 범위를 parallelism개로 나눠 동시에 처리
+ * - 각 범위는 user_habit ID 기준 keyset 페이지로 chunkSize씩 조회 → 벌크 UPDATE (청크마다 별도 트랜잭션)
+ * - UPDATE 조건에 lastCheckedDate를 다시 넣어, 조회 이후 체크된 습관은 초기화하지 않음
+ *
+ * 같은 조건의 UPDATE라 여러 인스턴스에서 동시에 돌아도 결과는 같다.
+ *
+ * 메트릭: habit.streak.expiry (실행 시간), habit.streak.expiry.reset (초기화 건수)
+ */
+@Slf4j
+@Component
+public class StreakExpiryJob {
+
+    private final UserHabitRepository userHabitRepository;
+    private final StreakExpiryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer expiryTimer;
+    private final Counter resetCounter;
+
+    public StreakExpiryJob(UserHabitRepository userHabitRepository,
+                           StreakExpiryProperties properties,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.userHabitRepository = userHabitRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expiryTimer = Timer.builder("habit.streak.expiry")
+                .register(meterRegistry);
+        this.resetCounter = Counter.builder("habit.streak.expiry.reset")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${habit.streak-expiry.cron:5 0 0 * * *}")
+    public void expireStreaks() {
+        expiryTimer.record(() -> expireStreaks(LocalDate.now()));
+    }
+
+    /**
+     * today 기준으로 끊긴 스트릭 초기화
+     *
+     * @return 초기화된 습관 수
+     */
+    public int expireStreaks(LocalDate today) {
+        LocalDate yesterday = today.minusDays(1);
+
+        List<Object[]> range = userHabitRepository.findExpiredStreakUserIdRange(yesterday);
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            log.info("스트릭 만료 대상 없음: today={}", today);
+            return 0;
+        }
+        long minUserId = ((Number) range.get(0)[0]).longValue();
+        long maxUserId = ((Number) range.get(0)[1]).longValue();
+
+        int parallelism = Math.max(1, properties.getParallelism());
+        long span = Math.max(1, (maxUserId - minUserId + parallelism) / parallelism);
+
+        AtomicInteger total = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            for (long from = minUserId; from <= maxUserId; from += span) {
+                long to = Math.min(maxUserId, from + span - 1);
+                long fromUserId = from;
+                futures.add(executor.submit(() -> total.addAndGet(expireRange(fromUserId, to, yesterday))));
+            }
+            for (Future<?> future : futures) {
+                await(future);
+            }
+        }
+
+        log.info("스트릭 만료 처리 완료: today={}, userIds={}~{}, reset={}", today, minUserId, maxUserId, total.get());
+        return total.get();
+    }
+
+    /**
+     * 사용자 ID 범위 하나를 청크 단위로 처리
+     */
+    private int expireRange(long fromUserId, long toUserId, LocalDate yesterday) {
+        int chunkSize = properties.getChunkSize();
+        int reset = 0;
+        long afterId = 0L;
+
+        while (true) {
+            long cursor = afterId;
+            ChunkResult chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = userHabitRepository.findExpiredStreaks(
+                        fromUserId, toUserId, cursor, yesterday, Limit.of(chunkSize));
+                if (ids.isEmpty()) {
+                    return new ChunkResult(ids, 0);
+                }
+                return new ChunkResult(ids, userHabitRepository.resetExpiredStreaks(ids, yesterday));
+            });
+
+            if (chunk == null || chunk.ids().isEmpty()) {
+                break;
+            }
+            reset += chunk.updated();
+            resetCounter.increment(chunk.updated());
+
+            if (chunk.ids().size() < chunkSize) {
+                break;
+            }
+            afterId = chunk.ids().get(chunk.ids().size() - 1);
+        }
+        return reset;
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("스트릭 만료 처리 중단", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("스트릭 만료 처리 실패", e.getCause());
+        }
+    }
+
+    private record ChunkResult(List<Long> ids, int updated) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.dailyonepage.backend.domain.habit.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스트릭 만료 처리 설정값
+ *
+ * application.yml의 habit.streak-expiry.* 를 매핑
+ * (실행 시각은 @Scheduled에서 habit.streak-expiry.cron 을 직접 읽음, "-"이면 비활성화)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "habit.streak-expiry")
+public class StreakExpiryProperties {
+
+    // 한 트랜잭션에서 초기화할 최대 건수
+    private int chunkSize = 1000;
+
+    // 사용자 ID 범위를 나눠 동시에 처리할 작업 수
+    private int parallelism = 4;
+}
@@ -17,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -30,9 +31,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserHabitService {
 
+    private static final int RECENT_DAYS = 30;
+
     private final UserHabitRepository userHabitRepository;
     private final HabitRepository habitRepository;
     private final UserRepository userRepository;
+    private final HabitLogBitmapService habitLogBitmapService;
 
     /**
      * 내 습관 목록 조회
@@ -59,7 +63,12 @@ public class UserHabitService {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
-        return UserHabitDetailResponse.from(userHabit);
+        // 최근 30일 달성률 (비트맵 연산)
+        LocalDate today = LocalDate.now();
+        HabitLogBitmapService.RangeSummary recent = habitLogBitmapService.summarize(
+                userHabit, today.minusDays(RECENT_DAYS - 1), today);
+
+        return UserHabitDetailResponse.from(userHabit, recent.checkedDays(), recent.completionRate());
     }
 
     /**
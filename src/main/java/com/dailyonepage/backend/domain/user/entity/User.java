@@ -1,6 +1,7 @@
 package com.dailyonepage.backend.domain.user.entity;
 
 import com.dailyonepage.backend.global.common.BaseTimeEntity;
+import com.dailyonepage.backend.global.security.UserPrincipalCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -15,15 +16,18 @@ import java.time.LocalTime;
  * @Entity: JPA가 관리하는 엔티티 클래스
  * @Table: 테이블명 지정 (user는 예약어라서 users로 변경)
  * @NoArgsConstructor(access = PROTECTED): JPA 프록시 생성용, 외부 생성 방지
+ * @EntityListeners: 변경/삭제 시 인증 principal 캐시 무효화
  */
 @Entity
 @Table(name = "users")
+@EntityListeners(UserPrincipalCacheEvictionListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 255)
@@ -55,6 +59,7 @@ public class User extends BaseTimeEntity {
         this.alarmTime = alarmTime;
     }
 
+    // flush 시 UserPrincipalCacheEvictionListener가 principal 캐시를 무효화함
     public void updatePassword(String encodedPassword) {
         this.password = encodedPassword;
     }
@@ -0,0 +1,98 @@
+package com.dailyonepage.backend.global.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * 공용 카탈로그 응답 캐시 (직렬화된 JSON 바이트 + ETag)
+ *
+ * 뱃지세트/시스템 습관 목록처럼 모든 사용자에게 같은 응답은
+ * ApiResponse로 감싼 JSON을 한 번만 직렬화해 바이트로 보관하고, 내용 해시로 강한 ETag를 만든다.
+ * - 캐시 히트: DB 조회도 JSON 직렬화도 없음
+ * - If-None-Match가 ETag와 같으면 304 (ResponseEntity의 ETag로 Spring MVC가 처리, 본문 없음)
+ * - 내용이 같으면 다시 로드해도 ETag가 같아 클라이언트 캐시가 유지됨
+ *
+ * 정의가 바뀌면 invalidate(prefix)로 지운다. (그 외에는 TTL 만료)
+ *
+ * 메트릭: cache.gets{cache=catalog-response, result=hit|miss}
+ */
+@Component
+public class CatalogResponseCache {
+
+    public static final Duration TTL = Duration.ofMinutes(10);
+
+    // 캐시 키 접두사
+    public static final String BADGES = "badges:";
+    public static final String SYSTEM_HABITS = "habits:system";
+
+    // 인증이 필요한 API라 브라우저 캐시만 허용, 1분 후에는 ETag로 재검증
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePrivate();
+
+    private static final String CACHE_NAME = "catalog-response";
+
+    private final Cache<String, Payload> cache;
+    private final JsonMapper jsonMapper;
+
+    public CatalogResponseCache(JsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        this.jsonMapper = jsonMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 응답 반환 (없으면 loader 결과를 ApiResponse.success로 감싸 직렬화 후 저장)
+     */
+    public ResponseEntity<byte[]> respond(String key, Supplier<?> loader) {
+        Payload payload = cache.get(key, k -> serialize(loader.get()));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CACHE_CONTROL)
+                .eTag(payload.etag())
+                .body(payload.body());
+    }
+
+    /**
+     * key가 prefix로 시작하는 항목 삭제
+     */
+    public void invalidate(String prefix) {
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private Payload serialize(Object data) {
+        byte[] body = jsonMapper.writeValueAsBytes(ApiResponse.success(data));
+        return new Payload(body, etag(body));
+    }
+
+    /**
+     * 강한 ETag (본문 SHA-256 앞 16바이트)
+     */
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record Payload(byte[] body, String etag) {
+    }
+}
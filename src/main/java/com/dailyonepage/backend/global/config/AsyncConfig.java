@@ -0,0 +1,53 @@
+package com.dailyonepage.backend.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 실행 설정
+ *
+ * @EnableAsync: @Async 메서드를 별도 스레드 풀에서 실행
+ *
+ * badgeTaskExecutor: 뱃지 진행 처리 (요청 스레드와 분리)
+ * - 대기열이 가득 차면 버리고 badge.executor.rejected 로 센다.
+ *   버려진 습관은 다음 스트릭 변경 때 최신 스트릭으로 다시 평가되고,
+ *   그 전에 보정이 필요하면 뱃지 백필(BadgeBackfillJob)로 다시 맞춘다.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String BADGE_EXECUTOR = "badgeTaskExecutor";
+
+    @Bean(name = BADGE_EXECUTOR)
+    public ThreadPoolTaskExecutor badgeTaskExecutor(MeterRegistry meterRegistry) {
+        Counter rejectedCounter = Counter.builder("badge.executor.rejected")
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("badge-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejectedCounter.increment();
+            log.warn("뱃지 처리 대기열 초과, 작업 버림: queueSize={}", pool.getQueue().size());
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("비동기 작업 실패: method={}", method.getName(), e);
+    }
+}
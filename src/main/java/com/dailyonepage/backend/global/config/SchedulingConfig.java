@@ -0,0 +1,14 @@
+package com.dailyonepage.backend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 설정
+ *
+ * @EnableScheduling: @Scheduled 메서드가 동작하도록 함
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
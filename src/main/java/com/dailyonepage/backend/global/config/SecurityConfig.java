@@ -1,5 +1,7 @@
 package com.dailyonepage.backend.global.config;
 
+import com.dailyonepage.backend.global.security.PasswordProperties;
+import com.dailyonepage.backend.global.security.SecurityPaths;
 import com.dailyonepage.backend.global.security.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -9,6 +11,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -17,6 +20,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Spring Security 설정
@@ -41,11 +45,11 @@ public class SecurityConfig {
                 // 요청 인가 설정
                 .authorizeHttpRequests(auth -> auth
                         // H2 Console 허용
-                        .requestMatchers("/h2-console/**").permitAll()
+                        .requestMatchers(SecurityPaths.H2_CONSOLE).permitAll()
                         // Swagger UI 허용
-                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers(SecurityPaths.SWAGGER).permitAll()
                         // 인증 관련 API 허용
-                        .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers(SecurityPaths.AUTH).permitAll()
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -64,10 +68,19 @@ public class SecurityConfig {
     /**
      * 비밀번호 암호화 인코더
      * BCrypt: 단방향 해시 + 솔트(salt) 자동 적용
+     *
+     * 새 해시는 "{bcrypt}$2a$..." 형태로 저장된다.
+     * 접두사 없는 기존 해시도 BCrypt로 검증하며, upgradeEncoding()이 true를 돌려주므로
+     * 로그인 시 현재 비용으로 다시 해싱된다. (비용을 올린 경우도 동일)
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordProperties passwordProperties) {
+        String encodingId = "bcrypt";
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(passwordProperties.getBcryptStrength());
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encodingId, Map.of(encodingId, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     /**
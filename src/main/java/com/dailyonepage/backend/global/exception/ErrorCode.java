@@ -22,12 +22,16 @@ public enum ErrorCode {
     // Common
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "COMMON_001", "잘못된 입력값입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON_002", "서버 오류가 발생했습니다."),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "COMMON_003", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON_004", "요청 횟수가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    CONCURRENT_UPDATE(HttpStatus.CONFLICT, "COMMON_005", "동시에 처리 중인 요청과 충돌했습니다. 다시 시도해주세요."),
 
     // Auth
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH_001", "유효하지 않은 토큰입니다."),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH_002", "만료된 토큰입니다."),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "AUTH_003", "인증이 필요합니다."),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "AUTH_004", "접근 권한이 없습니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "AUTH_005", "이미 사용된 Refresh Token입니다. 다시 로그인해주세요."),
 
     // User
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "USER_001", "사용자를 찾을 수 없습니다."),
@@ -42,6 +46,8 @@ public enum ErrorCode {
     SYSTEM_HABIT_NOT_MODIFIABLE(HttpStatus.BAD_REQUEST, "HABIT_005", "시스템 습관은 수정/삭제할 수 없습니다."),
     HABIT_LOG_NOT_FOUND(HttpStatus.NOT_FOUND, "HABIT_006", "습관 체크 기록을 찾을 수 없습니다."),
     DUPLICATE_HABIT_LOG(HttpStatus.CONFLICT, "HABIT_007", "해당 날짜에 이미 체크 기록이 있습니다."),
+    HABIT_LOG_DATE_OUT_OF_RANGE(HttpStatus.BAD_REQUEST, "HABIT_008", "오늘부터 최근 7일 이내의 날짜만 체크할 수 있습니다."),
+    HABIT_LOG_RANGE_INVALID(HttpStatus.BAD_REQUEST, "HABIT_009", "조회 기간은 시작일부터 최대 366일까지 가능합니다."),
 
     // Badge
     BADGE_SET_NOT_FOUND(HttpStatus.NOT_FOUND, "BADGE_001", "뱃지 세트를 찾을 수 없습니다."),
@@ -1,7 +1,9 @@
 package com.dailyonepage.backend.global.exception;
 
 import com.dailyonepage.backend.global.common.ApiResponse;
+import com.dailyonepage.backend.global.ratelimit.RateLimitExceededException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -31,6 +33,19 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(errorCode.getCode(), e.getMessage()));
     }
 
+    /**
+     * 요청 제한 초과 처리
+     * 429 + Retry-After 헤더(초)로 재시도 시점을 알려준다.
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ResponseEntity<ApiResponse<Void>> handleRateLimitExceededException(RateLimitExceededException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(errorCode.getCode(), e.getMessage()));
+    }
+
     /**
      * @Valid 유효성 검증 실패 처리
      * DTO에서 @NotBlank, @Email 등 검증 실패 시
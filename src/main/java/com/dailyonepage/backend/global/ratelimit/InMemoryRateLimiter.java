@@ -0,0 +1,54 @@
+package com.dailyonepage.backend.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인메모리 토큰 버킷 (락 없음)
+ *
+ * 버킷마다 AtomicLong 하나(다음 토큰 도착 예정 시각, GCRA 방식)만 두고 CAS로 갱신한다.
+ * 버킷 맵은 Caffeine(내부적으로 분할된 ConcurrentHashMap)이라 키 간 경합이 없고,
+ * 오래 쓰이지 않은 버킷은 가득 찬 버킷과 같으므로 접근 후 일정 시간이 지나면 제거한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "security.rate-limit", name = "mode", havingValue = "local", matchIfMissing = true)
+public class InMemoryRateLimiter implements RateLimiter {
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofHours(1);
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public InMemoryRateLimiter(RateLimitProperties properties) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumKeys())
+                .expireAfterAccess(IDLE_TIMEOUT)
+                .build();
+    }
+
+    @Override
+    public long tryConsume(String key, RateLimitProperties.Bucket policy) {
+        long interval = policy.getRefillInterval().toNanos();
+        long burst = interval * (policy.getCapacity() - 1);
+        AtomicLong arrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+
+        while (true) {
+            long now = System.nanoTime();
+            long current = arrival.get();
+            long tat = current == Long.MIN_VALUE ? now : Math.max(current, now);
+
+            // 다음 도착 예정 시각이 허용 burst보다 앞서 있으면 버킷이 빈 상태
+            if (tat - now > burst) {
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(tat - burst - now));
+            }
+            if (arrival.compareAndSet(current, tat + interval)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.dailyonepage.backend.global.ratelimit;
+
+import com.dailyonepage.backend.global.exception.BusinessException;
+import com.dailyonepage.backend.global.exception.ErrorCode;
+import lombok.Getter;
+
+/**
+ * rate limit 초과 예외
+ * GlobalExceptionHandler가 429 + Retry-After 헤더로 응답한다.
+ */
+@Getter
+public class RateLimitExceededException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterMillis) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+}
@@ -0,0 +1,51 @@
+package com.dailyonepage.backend.global.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인증 API rate limit 설정값
+ *
+ * application.yml의 security.rate-limit.* 를 매핑
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // local: 인스턴스 메모리, redis: Redis 공유 버킷
+    private String mode = "local";
+
+    // 인메모리 모드에서 보관할 최대 버킷 수 (초과 시 오래된 버킷부터 제거)
+    private long localMaximumKeys = 100_000;
+
+    // 로그인: IP당 / 이메일당
+    private Bucket loginPerIp = new Bucket(20, Duration.ofSeconds(3));
+    private Bucket loginPerEmail = new Bucket(5, Duration.ofSeconds(30));
+
+    // 회원가입: IP당
+    private Bucket signupPerIp = new Bucket(5, Duration.ofMinutes(1));
+
+    /**
+     * 토큰 버킷 정책
+     * capacity개까지 연속 요청 가능, refillInterval마다 토큰 1개 충전
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+
+        private int capacity;
+        private Duration refillInterval;
+    }
+}
@@ -0,0 +1,20 @@
+package com.dailyonepage.backend.global.ratelimit;
+
+/**
+ * 키 단위 토큰 버킷 rate limiter
+ *
+ * 구현체:
+ * - InMemoryRateLimiter: 인스턴스 로컬 (기본값, security.rate-limit.mode=local)
+ * - RedisRateLimiter: 여러 인스턴스가 버킷을 공유 (security.rate-limit.mode=redis)
+ */
+public interface RateLimiter {
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @param key    버킷 키 (예: login:ip:127.0.0.1)
+     * @param policy 버킷 용량/충전 간격
+     * @return 허용되면 0, 거절되면 다음 토큰이 생길 때까지 남은 시간(ms)
+     */
+    long tryConsume(String key, RateLimitProperties.Bucket policy);
+}
@@ -10,35 +10,47 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-
 /**
  * Spring Security의 UserDetailsService 구현
  * 로그인 시 사용자 정보를 DB에서 조회
+ *
+ * userId 클레임이 없는 (이전 버전) 토큰의 인증에도 사용된다.
  */
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
+    /**
+     * 이메일로 사용자 조회 (캐시 우선)
+     */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                Collections.emptyList()  // 권한 목록 (현재는 빈 목록)
-        );
+        return principalCache.get(email, this::loadPrincipal);
     }
 
     /**
      * User 엔티티 조회 (서비스에서 사용)
+     *
+     * 캐시에 있으면 userId로 프록시(getReferenceById)만 만들어 반환하므로
+     * 실제 필드에 접근하기 전까지 쿼리가 나가지 않는다.
      */
     public User loadUserEntityByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        UserPrincipal principal;
+        try {
+            principal = principalCache.get(email, this::loadPrincipal);
+        } catch (UsernameNotFoundException e) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        return userRepository.getReferenceById(principal.getId());
+    }
+
+    private UserPrincipal loadPrincipal(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
+
+        return UserPrincipal.of(user.getId(), user.getEmail(), user.getPassword());
     }
 }
@@ -0,0 +1,82 @@
+package com.dailyonepage.backend.global.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시 BCrypt 해시 시간 측정
+ *
+ * 현재 설정 비용과 그 앞뒤 비용(±1)의 1회 해시 시간을 이 서버에서 직접 재서 로그로 남긴다.
+ * 설정 비용이 security.password.hash-time-budget을 넘으면 경고한다.
+ * 로그인 p99 예산 안에서 비용을 고를 때 참고용.
+ * security.password.benchmark-on-startup=true일 때만 실행한다. (기본 꺼짐, local 프로필에서만 켬)
+ *
+ * 메트릭: auth.password.hash.benchmark (설정 비용의 평균 해시 시간, ms)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashBenchmark {
+
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 31;
+    private static final String SAMPLE_PASSWORD = "benchmark-password-1234";
+
+    private final PasswordProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        if (!properties.isBenchmarkOnStartup()) {
+            return;
+        }
+
+        int strength = properties.getBcryptStrength();
+        long budgetMillis = properties.getHashTimeBudget().toMillis();
+
+        double configuredMillis = 0;
+        for (int candidate = Math.max(MIN_STRENGTH, strength - 1);
+             candidate <= Math.min(MAX_STRENGTH, strength + 1); candidate++) {
+            double averageMillis = measure(candidate);
+            log.info("BCrypt 해시 시간: strength={}, avg={}ms{}", candidate,
+                    String.format("%.1f", averageMillis), candidate == strength ? " (현재 설정)" : "");
+            if (candidate == strength) {
+                configuredMillis = averageMillis;
+            }
+        }
+
+        double measured = configuredMillis;
+        Gauge.builder("auth.password.hash.benchmark", () -> measured)
+                .baseUnit("milliseconds")
+                .tag("strength", String.valueOf(strength))
+                .register(meterRegistry);
+
+        if (configuredMillis > budgetMillis) {
+            log.warn("BCrypt 해시 시간이 예산 초과: strength={}, avg={}ms, budget={}ms",
+                    strength, String.format("%.1f", configuredMillis), budgetMillis);
+        }
+    }
+
+    /**
+     * 1회 워밍업 후 반복 측정한 평균 (ms)
+     */
+    private double measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+
+        int iterations = Math.max(1, properties.getBenchmarkIterations());
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            encoder.encode(SAMPLE_PASSWORD);
+        }
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / 1000.0 / iterations;
+    }
+}
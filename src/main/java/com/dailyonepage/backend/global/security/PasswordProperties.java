@@ -0,0 +1,42 @@
+package com.dailyonepage.backend.global.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 설정값
+ *
+ * application.yml의 security.password.* 를 매핑
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordProperties {
+
+    // BCrypt 작업 비용 (log2 라운드, 4~31). 올리면 해시 시간이 약 2배씩 증가
+    private int bcryptStrength = 10;
+
+    // 기동 시 현재 비용(±1)의 해시 시간을 측정해 로그로 남길지 여부
+    // 기동마다 CPU를 쓰고 준비 완료를 늦추므로 기본은 꺼 두고, 비용을 정할 서버에서만 켠다.
+    private boolean benchmarkOnStartup = false;
+
+    // 측정 반복 횟수
+    private int benchmarkIterations = 5;
+
+    // 해시 1회에 허용하는 시간 (초과 시 경고 로그)
+    private Duration hashTimeBudget = Duration.ofMillis(250);
+
+    // 해싱 전용 스레드 수 (0이면 CPU 코어 수)
+    private int hashingPoolSize = 0;
+
+    // 대기열 최대 길이 (초과 시 즉시 503)
+    private int hashingQueueCapacity = 64;
+
+    // 요청 스레드가 해싱 결과를 기다리는 최대 시간 (대기열 대기 + 해싱)
+    private Duration hashingTimeout = Duration.ofSeconds(3);
+}
@@ -0,0 +1,56 @@
+package com.dailyonepage.backend.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 이메일 → UserPrincipal 인메모리 캐시
+ *
+ * 크기(maximum-size)와 TTL로 제한되며, 비밀번호 변경/회원 삭제 시
+ * UserPrincipalCacheEvictionListener가 해당 이메일을 무효화한다.
+ *
+ * 메트릭 (/actuator/metrics):
+ * - cache.gets{cache=principal, result=hit|miss}
+ * - cache.evictions{cache=principal}  (크기/TTL 초과로 제거된 수)
+ * - security.principal.cache.invalidations  (변경/삭제로 무효화된 수)
+ */
+@Component
+public class PrincipalCache {
+
+    private static final String CACHE_NAME = "principal";
+
+    private final Cache<String, UserPrincipal> cache;
+    private final Counter invalidations;
+
+    public PrincipalCache(PrincipalCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("security.principal.cache.invalidations")
+                .description("비밀번호 변경/회원 삭제로 무효화된 principal 수")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 조회 후 저장
+     * loader가 예외를 던지면 캐시에 저장하지 않는다.
+     */
+    public UserPrincipal get(String email, Function<String, UserPrincipal> loader) {
+        return cache.get(email, loader);
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(email);
+        invalidations.increment();
+    }
+}
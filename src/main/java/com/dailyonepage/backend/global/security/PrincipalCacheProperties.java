@@ -0,0 +1,24 @@
+package com.dailyonepage.backend.global.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인증 principal 캐시 설정값
+ *
+ * application.yml의 security.principal-cache.* 를 매핑
+ * maximum-size를 0으로 두면 캐시를 사용하지 않는다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.principal-cache")
+public class PrincipalCacheProperties {
+
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(10);
+}
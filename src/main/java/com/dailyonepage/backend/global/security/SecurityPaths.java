@@ -0,0 +1,29 @@
+package com.dailyonepage.backend.global.security;
+
+/**
+ * 인증 없이 접근 가능한 경로
+ *
+ * SecurityConfig(permitAll)와 JwtAuthenticationFilter(필터 생략)가 같은 목록을 사용한다.
+ */
+public final class SecurityPaths {
+
+    // H2 Console
+    public static final String[] H2_CONSOLE = {"/h2-console/**"};
+
+    // Swagger UI
+    public static final String[] SWAGGER = {"/swagger-ui/**", "/v3/api-docs/**"};
+
+    // 인증 관련 API (로그인, 회원가입, 재발급, 로그아웃)
+    public static final String[] AUTH = {"/api/auth/**"};
+
+    private SecurityPaths() {
+    }
+
+    public static String[] publicPaths() {
+        String[] paths = new String[H2_CONSOLE.length + SWAGGER.length + AUTH.length];
+        System.arraycopy(H2_CONSOLE, 0, paths, 0, H2_CONSOLE.length);
+        System.arraycopy(SWAGGER, 0, paths, H2_CONSOLE.length, SWAGGER.length);
+        System.arraycopy(AUTH, 0, paths, H2_CONSOLE.length + SWAGGER.length, AUTH.length);
+        return paths;
+    }
+}
@@ -21,13 +21,28 @@ public class SecurityUtil {
      * @throws BusinessException 인증 정보가 없는 경우
      */
     public static String getCurrentUserEmail() {
+        return getCurrentUser().getEmail();
+    }
+
+    /**
+     * 현재 인증된 사용자의 ID 조회
+     * JWT 클레임에서 꺼낸 값이므로 DB 조회 없음
+     *
+     * @return 현재 사용자의 ID
+     * @throws BusinessException 인증 정보가 없는 경우
+     */
+    public static Long getCurrentUserId() {
+        return getCurrentUser().getId();
+    }
+
+    private static UserPrincipal getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null || !authentication.isAuthenticated() ||
-                authentication.getPrincipal().equals("anonymousUser")) {
+                !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        return authentication.getName();
+        return principal;
     }
 }
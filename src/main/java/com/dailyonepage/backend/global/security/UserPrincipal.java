@@ -0,0 +1,52 @@
+package com.dailyonepage.backend.global.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * 인증된 사용자 정보 (SecurityContext의 principal)
+ *
+ * JWT 클레임(userId, email)만으로 생성되므로 요청마다 DB를 조회하지 않는다.
+ * 컨트롤러는 SecurityUtil.getCurrentUserId()로 userId를 꺼내 쓴다.
+ */
+@Getter
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String password;
+
+    private UserPrincipal(Long id, String email, String password) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+    }
+
+    /**
+     * 토큰 클레임으로 생성 (비밀번호 없음)
+     */
+    public static UserPrincipal of(Long id, String email) {
+        return new UserPrincipal(id, email, null);
+    }
+
+    /**
+     * DB 조회 결과로 생성 (로그인 검증용, 비밀번호 해시 포함)
+     */
+    public static UserPrincipal of(Long id, String email, String password) {
+        return new UserPrincipal(id, email, password);
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.emptyList();  // 권한 목록 (현재는 빈 목록)
+    }
+}
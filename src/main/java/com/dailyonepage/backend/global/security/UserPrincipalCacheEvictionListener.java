@@ -0,0 +1,27 @@
+package com.dailyonepage.backend.global.security;
+
+import com.dailyonepage.backend.domain.user.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 엔티티 변경 시 principal 캐시 무효화
+ *
+ * User.updatePassword() 등으로 변경된 엔티티가 flush되거나 삭제되면
+ * 캐시에 남아있는 이전 비밀번호 해시/계정 정보를 제거한다.
+ * (JPQL 벌크 UPDATE/DELETE는 엔티티 리스너를 거치지 않으므로 주의)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCacheEvictionListener {
+
+    private final PrincipalCache principalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        principalCache.invalidate(user.getEmail());
+    }
+}
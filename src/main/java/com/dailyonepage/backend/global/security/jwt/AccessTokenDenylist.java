@@ -0,0 +1,87 @@
+package com.dailyonepage.backend.global.security.jwt;
+
+import com.dailyonepage.backend.domain.auth.repository.RevokedAccessTokenStore;
+import com.dailyonepage.backend.global.common.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 폐기된 Access Token 판별기
+ *
+ * 로컬 Bloom Filter를 먼저 확인하고, 양성일 때만 RevokedAccessTokenStore(원본)를 조회한다.
+ * → 폐기되지 않은 대부분의 요청은 메모리 비트 연산만으로 통과
+ *
+ * Bloom Filter는 주기적으로 저장소 전체에서 다시 만든다. (다른 서버에서 폐기된 토큰 반영 + 만료 항목 제거)
+ * 다른 서버에서 폐기된 토큰은 최대 재구성 주기(jwt.denylist-refresh-interval)만큼 늦게 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenDenylist {
+
+    private final RevokedAccessTokenStore revokedAccessTokenStore;
+    private final JwtProperties jwtProperties;
+
+    private volatile BloomFilter bloomFilter;
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃)
+     */
+    public void revoke(String tokenId, Duration remaining) {
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;  // 이미 만료된 토큰
+        }
+        revokedAccessTokenStore.revoke(tokenId, remaining);
+        synchronized (this) {
+            bloomFilter.put(tokenId);
+        }
+    }
+
+    /**
+     * 폐기 여부 확인 (요청마다 호출)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedAccessTokenStore.isRevoked(tokenId);
+    }
+
+    /**
+     * 저장소 기준으로 Bloom Filter 재구성
+     *
+     * 조회~교체 구간을 revoke()와 같은 락으로 묶어, 재구성 중에 폐기된 토큰이 누락되지 않게 한다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.denylist-refresh-interval:30000}",
+            initialDelayString = "${jwt.denylist-refresh-interval:30000}")
+    public synchronized void rebuild() {
+        try {
+            Collection<String> revoked = revokedAccessTokenStore.findAllRevoked();
+            BloomFilter rebuilt = BloomFilter.create(
+                    Math.max(jwtProperties.getDenylistExpectedInsertions(), revoked.size()),
+                    jwtProperties.getDenylistFalsePositiveRate());
+            revoked.forEach(rebuilt::put);
+            this.bloomFilter = rebuilt;
+            log.debug("Access Token denylist 재구성: {}건", revoked.size());
+        } catch (RuntimeException e) {
+            // 저장소 장애 시 기존 필터 유지 (최초 구성 실패면 빈 필터로 시작)
+            log.warn("Access Token denylist 재구성 실패: {}", e.getMessage());
+            if (this.bloomFilter == null) {
+                this.bloomFilter = BloomFilter.create(
+                        jwtProperties.getDenylistExpectedInsertions(),
+                        jwtProperties.getDenylistFalsePositiveRate());
+            }
+        }
+    }
+}
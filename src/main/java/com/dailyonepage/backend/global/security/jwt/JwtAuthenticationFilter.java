@@ -1,18 +1,28 @@
 package com.dailyonepage.backend.global.security.jwt;
 
+import com.dailyonepage.backend.global.security.SecurityPaths;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 인증 필터
@@ -21,48 +31,120 @@ import java.io.IOException;
  * 유효한 경우 SecurityContext에 인증 정보를 저장
  *
  * OncePerRequestFilter: 요청당 한 번만 실행되는 필터
+ *
+ * 인증이 필요 없는 경로(SecurityPaths)는 미리 컴파일한 matcher로 걸러 필터를 건너뛴다.
+ * 인증 처리 시간은 security.jwt.filter{path, outcome} 타이머로 기록한다.
+ * - path: /api/{리소스} 단위로 묶음 (예: /api/habit-logs)
+ * - outcome: authenticated | anonymous | rejected
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
-    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String TIMER_NAME = "security.jwt.filter";
+    private static final int MAX_TIMERS = 200;
+    private static final String OTHER_PATH_GROUP = "other";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final MeterRegistry meterRegistry;
+    private final RequestMatcher publicPathMatcher;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   AccessTokenDenylist accessTokenDenylist,
+                                   MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.meterRegistry = meterRegistry;
+        this.publicPathMatcher = new OrRequestMatcher(Arrays.stream(SecurityPaths.publicPaths())
+                .map(path -> (RequestMatcher) PathPatternRequestMatcher.withDefaults().matcher(path))
+                .toList());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicPathMatcher.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
 
         // 헤더에서 토큰 추출
         String token = resolveToken(request);
+        String outcome = "anonymous";
 
         // 토큰 유효성 검증 후 인증 정보 저장
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.debug("인증 정보 저장 완료: {}", authentication.getName());
+        // (Refresh Token과 로그아웃으로 폐기된 Access Token은 API 인증에 사용 불가)
+        if (StringUtils.hasText(token)) {
+            if (jwtTokenProvider.validateToken(token)
+                    && !jwtTokenProvider.isRefreshToken(token) && !isRevoked(token)) {
+                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+                outcome = "authenticated";
+                if (log.isDebugEnabled()) {
+                    log.debug("인증 정보 저장 완료: {}", authentication.getName());
+                }
+            } else {
+                outcome = "rejected";
+            }
         }
 
+        timer(pathGroup(request.getRequestURI()), outcome)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
         filterChain.doFilter(request, response);
     }
 
     /**
      * Authorization 헤더에서 Bearer 토큰 추출
-     *
-     * 예: "Authorization: Bearer eyJhbGciOiJI..."
-     *     → "eyJhbGciOiJI..."
      */
     private String resolveToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
+        return jwtTokenProvider.resolveToken(request.getHeader(AUTHORIZATION_HEADER));
+    }
 
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
-            return bearerToken.substring(BEARER_PREFIX.length());
+    /**
+     * 폐기 여부 확인 (jti가 없는 이전 버전 토큰은 폐기 대상이 아님)
+     */
+    private boolean isRevoked(String token) {
+        String tokenId = jwtTokenProvider.getTokenId(token);
+        return tokenId != null && accessTokenDenylist.isRevoked(tokenId);
+    }
+
+    /**
+     * 경로 + 결과별 타이머 (한 번 만든 타이머는 재사용)
+     * 임의의 URI로 태그 수가 늘어나지 않도록 경로 그룹 수를 제한한다.
+     */
+    private Timer timer(String pathGroup, String outcome) {
+        String key = pathGroup + '|' + outcome;
+        Timer timer = timers.get(key);
+        if (timer != null) {
+            return timer;
+        }
+        if (timers.size() >= MAX_TIMERS && !OTHER_PATH_GROUP.equals(pathGroup)) {
+            return timer(OTHER_PATH_GROUP, outcome);
         }
+        return timers.computeIfAbsent(key, k -> Timer.builder(TIMER_NAME)
+                .description("JWT 인증 필터 처리 시간")
+                .tag("path", pathGroup)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
 
-        return null;
+    /**
+     * /api/habit-logs/12/check → /api/habit-logs
+     */
+    private static String pathGroup(String uri) {
+        if (!uri.startsWith("/api/")) {
+            return OTHER_PATH_GROUP;
+        }
+        int end = uri.indexOf('/', "/api/".length());
+        return end < 0 ? uri : uri.substring(0, end);
     }
 }
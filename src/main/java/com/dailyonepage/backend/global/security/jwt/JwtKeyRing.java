@@ -0,0 +1,132 @@
+package com.dailyonepage.backend.global.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 목록 (kid → SecretKey)
+ *
+ * - 서명: activate-at이 지난 키 중 가장 최근 키(active key)로 서명하고 헤더에 kid를 넣는다.
+ * - 검증: 헤더의 kid로 미리 만들어 둔 맵에서 키를 바로 찾는다. (kid 없는 이전 토큰은 jwt.secret 키)
+ *
+ * 키 교체 절차 (재로그인 폭주 없이):
+ * 1. 새 키를 미래의 activate-at과 함께 jwt.keys에 추가해 배포 → 모든 인스턴스가 먼저 검증 가능
+ * 2. activate-at이 지나면 주기적 점검에서 각 인스턴스가 새 키로 서명 시작
+ * 3. 이전 키로 서명된 Refresh Token이 모두 만료된 뒤 이전 키 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyRing {
+
+    // jwt.secret 단일 키의 kid (kid 헤더가 없는 이전 토큰도 이 키로 검증)
+    static final String LEGACY_KEY_ID = "default";
+
+    private final JwtProperties jwtProperties;
+
+    private Map<String, SecretKey> keysById;
+    private Map<String, Instant> activationById;
+    private volatile ActiveKey activeKey;
+
+    @PostConstruct
+    public void init() {
+        Map<String, SecretKey> keys = new HashMap<>();
+        Map<String, Instant> activations = new HashMap<>();
+
+        if (StringUtils.hasText(jwtProperties.getSecret())) {
+            keys.put(LEGACY_KEY_ID, toSecretKey(jwtProperties.getSecret()));
+            activations.put(LEGACY_KEY_ID, Instant.MIN);  // 같은 시각이면 jwt.keys 쪽 우선
+        }
+        for (JwtProperties.SigningKey signingKey : jwtProperties.getKeys()) {
+            String kid = signingKey.getKid();
+            if (!StringUtils.hasText(kid) || keys.containsKey(kid)) {
+                throw new IllegalStateException("JWT 서명 키 kid가 비어있거나 중복됩니다: " + kid);
+            }
+            keys.put(kid, toSecretKey(signingKey.getSecret()));
+            activations.put(kid, signingKey.getActivateAt() != null ? signingKey.getActivateAt() : Instant.EPOCH);
+        }
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("JWT 서명 키가 없습니다. jwt.secret 또는 jwt.keys를 설정하세요.");
+        }
+
+        this.keysById = Map.copyOf(keys);
+        this.activationById = Map.copyOf(activations);
+        refreshActiveKey();
+    }
+
+    /**
+     * active key 재선정 (activate-at 도달 여부 점검)
+     */
+    @Scheduled(fixedDelayString = "${jwt.key-rotation-check-interval:60000}")
+    public void refreshActiveKey() {
+        Instant now = Instant.now();
+        String selected = null;
+        for (Map.Entry<String, Instant> entry : activationById.entrySet()) {
+            if (entry.getValue().isAfter(now)) {
+                continue;
+            }
+            if (selected == null || entry.getValue().isAfter(activationById.get(selected))) {
+                selected = entry.getKey();
+            }
+        }
+        if (selected == null) {
+            // 모든 키가 아직 활성 전이면 가장 먼저 활성화될 키로 서명
+            selected = activationById.entrySet().stream()
+                    .min(Map.Entry.comparingByValue())
+                    .orElseThrow()
+                    .getKey();
+        }
+
+        ActiveKey current = activeKey;
+        if (current == null || !current.kid().equals(selected)) {
+            activeKey = new ActiveKey(selected, keysById.get(selected));
+            log.info("JWT 서명 키 활성화: kid={}", selected);
+        }
+    }
+
+    /**
+     * 서명에 사용할 현재 키
+     */
+    public ActiveKey getActiveKey() {
+        return activeKey;
+    }
+
+    /**
+     * 검증 키 조회기 (JwtParser.keyLocator용)
+     */
+    public LocatorAdapter<Key> keyLocator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                String kid = header.getKeyId() != null ? header.getKeyId() : LEGACY_KEY_ID;
+                SecretKey key = keysById.get(kid);
+                if (key == null) {
+                    throw new SecurityException("등록되지 않은 JWT 서명 키입니다: kid=" + kid);
+                }
+                return key;
+            }
+        };
+    }
+
+    private static SecretKey toSecretKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public record ActiveKey(String kid, SecretKey key) {
+    }
+}
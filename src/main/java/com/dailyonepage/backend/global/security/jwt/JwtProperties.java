@@ -5,6 +5,10 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * JWT 설정값을 application.yml에서 주입받는 클래스
  *
@@ -17,7 +21,28 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
 
-    private String secret;
+    private String secret;                // 단일 키 (kid: default)
+    private List<SigningKey> keys = new ArrayList<>();  // 교체용 키 목록 (JwtKeyRing)
     private long accessTokenExpiration;   // ms 단위
     private long refreshTokenExpiration;  // ms 단위
+
+    // 검증된 토큰 Claims 캐시
+    private long claimsCacheMaximumSize = 10_000;
+    private long claimsCacheTtl = 300_000;  // ms 단위 (토큰 만료가 더 빠르면 만료 시점에 제거)
+
+    // 폐기된 Access Token Bloom Filter
+    private long denylistExpectedInsertions = 100_000;
+    private double denylistFalsePositiveRate = 0.01;
+
+    /**
+     * 서명 키 (kid + secret + 서명 시작 시각)
+     */
+    @Getter
+    @Setter
+    public static class SigningKey {
+
+        private String kid;
+        private String secret;
+        private Instant activateAt;  // 없으면 즉시 활성
+    }
 }
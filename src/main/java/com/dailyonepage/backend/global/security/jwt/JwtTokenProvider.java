@@ -1,7 +1,12 @@
 package com.dailyonepage.backend.global.security.jwt;
 
+import com.dailyonepage.backend.global.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,60 +15,116 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
-import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증 담당
+ *
+ * 파서(JwtParser)는 불변 객체라 한 번만 만들어 재사용하고,
+ * 서명 검증이 끝난 Claims는 토큰 만료 시점까지 캐시한다.
+ * → 한 요청에서 validateToken + getAuthentication으로 두 번 파싱해도 HMAC 검증은 노드당 1회
+ *
+ * 서명 키는 JwtKeyRing이 관리한다. (kid 헤더로 검증 키 선택, 키 교체 시에도 기존 토큰 유지)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String FAMILY_ID_CLAIM = "fid";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtProperties jwtProperties;
+    private final JwtKeyRing jwtKeyRing;
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
 
-    private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private Cache<String, Claims> claimsCache;
 
     @PostConstruct
     public void init() {
-        // secret 문자열을 SecretKey 객체로 변환
-        this.secretKey = Keys.hmacShaKeyFor(
-                jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        // kid 헤더로 검증 키를 찾는 파서 (키 목록은 불변이므로 파서도 한 번만 생성)
+        this.jwtParser = Jwts.parser()
+                .keyLocator(jwtKeyRing.keyLocator())
+                .build();
+
+        // 검증된 Claims 캐시 (토큰 SHA-256 → Claims, 토큰 만료 시각과 TTL 중 빠른 쪽에 제거)
+        // 유효한 토큰 원문이 힙에 키로 남지 않도록 해시를 키로 쓴다.
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getClaimsCacheMaximumSize())
+                .expireAfter(new ClaimsExpiry(Duration.ofMillis(jwtProperties.getClaimsCacheTtl())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwt-claims");
     }
 
     /**
      * Access Token 생성
      */
-    public String createAccessToken(String email) {
-        return createToken(email, jwtProperties.getAccessTokenExpiration());
+    public String createAccessToken(Long userId, String email) {
+        return createToken(userId, email, ACCESS_TOKEN_TYPE, UUID.randomUUID().toString(), null,
+                jwtProperties.getAccessTokenExpiration());
     }
 
     /**
      * Refresh Token 생성
+     *
+     * @param familyId 로그인 1회에서 시작된 Refresh Token 계열 ID (재발급해도 유지)
+     * @param tokenId  이 토큰의 고유 ID (재발급마다 새로 발급, RefreshTokenStore에 저장)
      */
-    public String createRefreshToken(String email) {
-        return createToken(email, jwtProperties.getRefreshTokenExpiration());
+    public String createRefreshToken(Long userId, String email, String familyId, String tokenId) {
+        return createToken(userId, email, REFRESH_TOKEN_TYPE, tokenId, familyId,
+                jwtProperties.getRefreshTokenExpiration());
     }
 
     /**
      * 토큰 생성 공통 로직
      */
-    private String createToken(String email, long expiration) {
+    private String createToken(Long userId, String email, String tokenType,
+                               String tokenId, String familyId, long expiration) {
         Date now = new Date();
         Date expireDate = new Date(now.getTime() + expiration);
+        JwtKeyRing.ActiveKey signingKey = jwtKeyRing.getActiveKey();
 
         return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()  // 서명 키 ID (검증 시 키 선택)
+                .id(tokenId)              // 토큰 고유 ID (jti)
                 .subject(email)           // 토큰 주체 (사용자 식별값)
+                .claim(USER_ID_CLAIM, userId)  // 사용자 ID (요청마다 DB 조회 방지)
+                .claim(TOKEN_TYPE_CLAIM, tokenType)
+                .claim(FAMILY_ID_CLAIM, familyId)
                 .issuedAt(now)            // 발급 시간
                 .expiration(expireDate)   // 만료 시간
-                .signWith(secretKey)      // 서명
+                .signWith(signingKey.key())  // 서명
                 .compact();
     }
 
+    /**
+     * Authorization 헤더 값에서 Bearer 토큰 추출
+     *
+     * 예: "Bearer eyJhbGciOiJI..." → "eyJhbGciOiJI..."
+     */
+    public String resolveToken(String bearerToken) {
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+
     /**
      * 토큰에서 이메일 추출
      */
@@ -71,13 +132,49 @@ public class JwtTokenProvider {
         return parseClaims(token).getSubject();
     }
 
+    /**
+     * 토큰에서 사용자 ID 추출 (userId 클레임이 없는 이전 토큰이면 null)
+     */
+    public Long getUserIdFromToken(String token) {
+        return parseClaims(token).get(USER_ID_CLAIM, Long.class);
+    }
+
+    /**
+     * 토큰 고유 ID(jti) 추출
+     */
+    public String getTokenId(String token) {
+        return parseClaims(token).getId();
+    }
+
+    /**
+     * Refresh Token 계열 ID 추출 (이전 버전 토큰이면 null)
+     */
+    public String getFamilyId(String token) {
+        return parseClaims(token).get(FAMILY_ID_CLAIM, String.class);
+    }
+
+    /**
+     * Refresh Token 여부 확인 (Access Token으로 재발급/로그아웃하는 것을 방지)
+     */
+    public boolean isRefreshToken(String token) {
+        return REFRESH_TOKEN_TYPE.equals(parseClaims(token).get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
     /**
      * 토큰으로 Authentication 객체 생성
      * Spring Security에서 인증 정보로 사용
+     *
+     * userId 클레임이 있으면 클레임만으로 principal을 만들고 (DB 조회 없음),
+     * 이전 버전 토큰이면 이메일로 사용자를 조회한다.
      */
     public Authentication getAuthentication(String token) {
-        String email = getEmailFromToken(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        Claims claims = parseClaims(token);
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+
+        UserDetails userDetails = userId != null
+                ? UserPrincipal.of(userId, claims.getSubject())
+                : userDetailsService.loadUserByUsername(claims.getSubject());
+
         return new UsernamePasswordAuthenticationToken(
                 userDetails, "", userDetails.getAuthorities());
     }
@@ -95,8 +192,10 @@ public class JwtTokenProvider {
             log.warn("지원하지 않는 JWT 토큰입니다.");
         } catch (MalformedJwtException e) {
             log.warn("잘못된 형식의 JWT 토큰입니다.");
-        } catch (SecurityException e) {
+        } catch (io.jsonwebtoken.security.SecurityException e) {
             log.warn("JWT 서명이 올바르지 않습니다.");
+        } catch (JwtException e) {
+            log.warn("유효하지 않은 JWT 토큰입니다.");
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 비어있습니다.");
         }
@@ -104,14 +203,35 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰 파싱
+     * 토큰 파싱 (검증 결과 캐시)
+     *
+     * 캐시에는 서명/만료 검증에 성공한 토큰만 저장된다.
+     * 만료된 토큰은 캐시에서 이미 제거되었으므로 다시 파싱되어 ExpiredJwtException이 발생한다.
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Assert.hasText(token, "JWT 토큰이 비어있습니다.");
+
+        String tokenHash = hash(token);
+        Claims cached = claimsCache.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        claimsCache.put(tokenHash, claims);
+        return claims;
+    }
+
+    /**
+     * Claims 캐시 키 (토큰 SHA-256, hex)
+     */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 
     /**
@@ -121,4 +241,37 @@ public class JwtTokenProvider {
         Date expiration = parseClaims(token).getExpiration();
         return expiration.getTime() - System.currentTimeMillis();
     }
+
+    /**
+     * Claims 캐시 만료 정책
+     * 토큰 만료 시각(exp)과 최대 TTL 중 더 이른 시점에 제거
+     */
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        private ClaimsExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return Math.max(0, Math.min(maxTtlNanos, Duration.ofMillis(remainingMillis).toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
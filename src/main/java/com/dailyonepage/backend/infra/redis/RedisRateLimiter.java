@@ -0,0 +1,59 @@
+package com.dailyonepage.backend.infra.redis;
+
+import com.dailyonepage.backend.global.ratelimit.RateLimitProperties;
+import com.dailyonepage.backend.global.ratelimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 토큰 버킷 (인스턴스 간 공유)
+ *
+ * 키: ratelimit:{key} → 다음 토큰 도착 예정 시각(μs, GCRA 방식)
+ * Lua 스크립트 안에서 Redis 서버 시각으로 계산하므로 인스턴스 간 시계 차이에 영향받지 않는다.
+ * 키 TTL은 버킷이 가득 차는 시간이라 쓰이지 않는 버킷은 자동 정리된다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "security.rate-limit", name = "mode", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    /**
+     * ARGV[1] = 충전 간격(μs), ARGV[2] = burst 허용치(μs)
+     * 반환값: 0 = 허용, 양수 = 재시도까지 남은 시간(ms)
+     */
+    private static final RedisScript<Long> CONSUME_SCRIPT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            if tat - now > burst then
+                return math.max(1, math.ceil((tat - burst - now) / 1000))
+            end
+            local next = tat + interval
+            redis.call('SET', KEYS[1], next, 'PX', math.ceil((next - now) / 1000))
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public long tryConsume(String key, RateLimitProperties.Bucket policy) {
+        long interval = policy.getRefillInterval().toNanos() / 1000;
+        long burst = interval * (policy.getCapacity() - 1);
+
+        Long result = redisTemplate.execute(CONSUME_SCRIPT, List.of(KEY_PREFIX + key),
+                String.valueOf(interval), String.valueOf(burst));
+        return result == null ? 0 : result;
+    }
+}
@@ -0,0 +1,68 @@
+package com.dailyonepage.backend.infra.redis;
+
+import com.dailyonepage.backend.domain.auth.repository.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Refresh Token 저장소 (Redis)
+ *
+ * 키: refresh:family:{familyId} → 현재 유효한 토큰 ID (TTL = Refresh Token 만료 시간)
+ * 재발급은 Lua 스크립트로 비교-교체를 원자적으로 수행해 동시 재발급 경쟁에서도 한 번만 성공한다.
+ */
+@Component
+@Profile("!local")
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh:family:";
+
+    /**
+     * 반환값: 1 = 교체 성공, -1 = 재사용 감지(계열 삭제), 0 = 계열 없음
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+                return 0
+            end
+            if current == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            redis.call('DEL', KEYS[1])
+            return -1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(String familyId, String tokenId, Duration ttl) {
+        redisTemplate.opsForValue().set(key(familyId), tokenId, ttl);
+    }
+
+    @Override
+    public RotationResult rotate(String familyId, String presentedTokenId, String newTokenId, Duration ttl) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(key(familyId)),
+                presentedTokenId, newTokenId, String.valueOf(ttl.toMillis()));
+
+        if (result == null || result == 0L) {
+            return RotationResult.NOT_FOUND;
+        }
+        return result == 1L ? RotationResult.ROTATED : RotationResult.REUSED;
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        redisTemplate.delete(key(familyId));
+    }
+
+    private static String key(String familyId) {
+        return KEY_PREFIX + familyId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.dailyonepage.backend.infra.redis;
+
+import com.dailyonepage.backend.domain.auth.repository.RevokedAccessTokenStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 폐기된 Access Token 저장소 (Redis)
+ *
+ * - revoked:access:{jti}    → "1" (TTL = 토큰 남은 유효 시간), 단건 조회용
+ * - revoked:access:index    → Sorted Set (member = jti, score = 만료 시각 ms), 전체 조회용
+ */
+@Component
+@Profile("!local")
+@RequiredArgsConstructor
+public class RedisRevokedAccessTokenStore implements RevokedAccessTokenStore {
+
+    private static final String KEY_PREFIX = "revoked:access:";
+    private static final String INDEX_KEY = "revoked:access:index";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void revoke(String tokenId, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", ttl);
+        redisTemplate.opsForZSet().add(INDEX_KEY, tokenId, expiresAt);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    @Override
+    public Collection<String> findAllRevoked() {
+        long now = System.currentTimeMillis();
+        // 만료된 항목 정리 후 남은 항목 조회
+        redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+        Set<String> revoked = redisTemplate.opsForZSet().rangeByScore(INDEX_KEY, now, Double.POSITIVE_INFINITY);
+        return revoked != null ? revoked : List.of();
+    }
+}
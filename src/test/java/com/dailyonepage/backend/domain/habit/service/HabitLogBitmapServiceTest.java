@@ -0,0 +1,126 @@
+package com.dailyonepage.backend.domain.habit.service;
+
+import com.dailyonepage.backend.domain.habit.entity.HabitLogBitmap;
+import com.dailyonepage.backend.domain.habit.entity.UserHabit;
+import com.dailyonepage.backend.domain.habit.repository.HabitLogRepository;
+import com.dailyonepage.backend.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class HabitLogBitmapServiceTest {
+
+    private final TreeSet<LocalDate> checkedDates = new TreeSet<>();
+    private final Map<Integer, HabitLogBitmap> bitmaps = new HashMap<>();
+
+    private HabitLogRepository habitLogRepository;
+    private HabitLogBitmapService habitLogBitmapService;
+    private UserHabit userHabit;
+
+    @BeforeEach
+    void setUp() {
+        habitLogRepository = HabitStreakServiceTest.logRepository(checkedDates);
+        habitLogBitmapService = new HabitLogBitmapService(
+                HabitStreakServiceTest.bitmapRepository(bitmaps), habitLogRepository,
+                mock(PlatformTransactionManager.class));
+
+        User user = User.builder()
+                .email("bitmap@dailyonepage.com")
+                .password("encoded")
+                .nickname("bitmap")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        userHabit = UserHabit.builder().user(user).build();
+        ReflectionTestUtils.setField(userHabit, "id", 10L);
+    }
+
+    @Test
+    @DisplayName("최장 구간이 64비트 워드 경계와 연도 경계를 넘어도 한 구간으로 센다")
+    void longestRunSpansWordAndYearBoundaries() {
+        // 2024-03-01 ~ 03-10 (비트 60~69) → 워드 0/1 경계를 넘는 10일
+        checkRange(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 10));
+        // 2024-12-20 ~ 2025-01-15 → 연도 경계를 넘는 27일
+        checkRange(LocalDate.of(2024, 12, 20), LocalDate.of(2025, 1, 15));
+        // 2025년 중간의 짧은 구간
+        checkRange(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 5));
+
+        assertThat(habitLogBitmapService.longestRun(userHabit)).isEqualTo(27);
+        assertThat(habitLogBitmapService.longestRun(userHabit)).isEqualTo(naiveLongestRun());
+    }
+
+    @Test
+    @DisplayName("한 해 전체가 체크되면 워드 전체 구간이 앞뒤 연도와 이어진다")
+    void longestRunThroughFullYear() {
+        checkRange(LocalDate.of(2023, 12, 30), LocalDate.of(2025, 1, 2));
+
+        assertThat(habitLogBitmapService.longestRun(userHabit)).isEqualTo(2 + 366 + 2);
+    }
+
+    @Test
+    @DisplayName("연도 경계를 넘는 앞뒤 구간 길이를 이어서 센다")
+    void runsContinueAcrossYearBoundary() {
+        checkRange(LocalDate.of(2024, 12, 29), LocalDate.of(2025, 1, 3));
+
+        assertThat(habitLogBitmapService.runEndingAt(userHabit, LocalDate.of(2025, 1, 2))).isEqualTo(5);
+        assertThat(habitLogBitmapService.runStartingAt(userHabit, LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 1)))
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("없는 연도 비트맵은 한 번만 habit_log로 만들고 저장해 다시 읽는다")
+    void missingYearIsBuiltOnceAndSaved() {
+        checkedDates.add(LocalDate.of(2024, 5, 1));
+
+        habitLogBitmapService.runEndingAt(userHabit, LocalDate.of(2024, 5, 1));
+        habitLogBitmapService.runEndingAt(userHabit, LocalDate.of(2024, 5, 1));
+
+        assertThat(bitmaps).containsKey(2024);
+        verify(habitLogRepository, times(1)).findCheckedDates(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("체크가 없는 연도는 조회해도 비트맵을 저장하지 않고, 체크가 생기면 저장한다")
+    void emptyYearIsNotSavedUntilChecked() {
+        habitLogBitmapService.runEndingAt(userHabit, LocalDate.of(2023, 8, 1));
+        habitLogBitmapService.summarize(userHabit, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31));
+        habitLogBitmapService.mark(userHabit, LocalDate.of(2023, 8, 1), false);
+        assertThat(bitmaps).doesNotContainKey(2023);
+
+        habitLogBitmapService.mark(userHabit, LocalDate.of(2023, 8, 1), true);
+        assertThat(bitmaps).containsKey(2023);
+        assertThat(bitmaps.get(2023).isChecked(LocalDate.of(2023, 8, 1))).isTrue();
+    }
+
+    private void checkRange(LocalDate from, LocalDate to) {
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            habitLogBitmapService.mark(userHabit, date, true);
+            checkedDates.add(date);
+        }
+    }
+
+    private int naiveLongestRun() {
+        int longest = 0;
+        int current = 0;
+        LocalDate previous = null;
+        for (LocalDate date : checkedDates) {
+            current = previous != null && previous.plusDays(1).equals(date) ? current + 1 : 1;
+            longest = Math.max(longest, current);
+            previous = date;
+        }
+        return longest;
+    }
+}
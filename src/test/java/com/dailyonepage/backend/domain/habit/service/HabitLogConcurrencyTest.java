@@ -0,0 +1,204 @@
+package com.dailyonepage.backend.domain.habit.service;
+
+import com.dailyonepage.backend.domain.habit.dto.HabitLogBulkCreateRequest;
+import com.dailyonepage.backend.domain.habit.dto.HabitLogBulkResponse;
+import com.dailyonepage.backend.domain.habit.dto.HabitLogCreateRequest;
+import com.dailyonepage.backend.domain.habit.entity.Habit;
+import com.dailyonepage.backend.domain.habit.entity.HabitType;
+import com.dailyonepage.backend.domain.habit.entity.UserHabit;
+import com.dailyonepage.backend.domain.habit.repository.HabitLogRepository;
+import com.dailyonepage.backend.domain.habit.repository.HabitRepository;
+import com.dailyonepage.backend.domain.habit.repository.UserHabitRepository;
+import com.dailyonepage.backend.domain.user.entity.User;
+import com.dailyonepage.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 UserHabit에 대한 동시 체크/취소 스트레스 테스트
+ * (H2 인메모리 DB, 낙관적 락 충돌은 HabitLogFacade가 재시도)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:habit-concurrency;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "security.password.benchmark-on-startup=false",
+        "habit.streak-expiry.cron=-",
+        "habit.check-retry.max-attempts=30"
+})
+class HabitLogConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int DAYS = 7;
+
+    @Autowired
+    private HabitLogFacade habitLogFacade;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HabitRepository habitRepository;
+
+    @Autowired
+    private UserHabitRepository userHabitRepository;
+
+    @Autowired
+    private HabitLogRepository habitLogRepository;
+
+    private final LocalDate today = LocalDate.now();
+
+    private Long userId;
+    private Long userHabitId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@dailyonepage.com")
+                .password("encoded")
+                .nickname("concurrency")
+                .build());
+        Habit habit = habitRepository.save(Habit.builder()
+                .user(user)
+                .name("달리기")
+                .type(HabitType.PRACTICE)
+                .build());
+        UserHabit userHabit = userHabitRepository.save(UserHabit.builder()
+                .user(user)
+                .habit(habit)
+                .build());
+
+        userId = user.getId();
+        userHabitId = userHabit.getId();
+    }
+
+    @Test
+    @DisplayName("최근 7일을 여러 스레드가 중복 포함 동시에 체크해도 스트릭은 7이다")
+    void concurrentChecksKeepStreakConsistent() throws Exception {
+        List<Callable<HabitLogService.CheckResult>> tasks = new ArrayList<>();
+        for (int repeat = 0; repeat < 4; repeat++) {
+            for (int day = 0; day < DAYS; day++) {
+                LocalDate date = today.minusDays(day);
+                tasks.add(() -> habitLogFacade.checkHabit(userId, request(date)));
+            }
+        }
+
+        runConcurrently(tasks);
+
+        UserHabit userHabit = userHabitRepository.findById(userHabitId).orElseThrow();
+        assertThat(userHabit.getCurrentStreak()).isEqualTo(DAYS);
+        assertThat(userHabit.getLongestStreak()).isEqualTo(DAYS);
+        assertThat(userHabit.getLastCheckedDate()).isEqualTo(today);
+        assertThat(habitLogRepository.findCheckedDates(userHabitId, today.minusDays(DAYS - 1), today))
+                .hasSize(DAYS);
+    }
+
+    @Test
+    @DisplayName("서로 다른 날짜를 동시에 취소해도 남은 기록 기준으로 스트릭이 계산된다")
+    void concurrentCancelsKeepStreakConsistent() throws Exception {
+        List<Long> logIds = new ArrayList<>();
+        for (int day = DAYS - 1; day >= 0; day--) {
+            logIds.add(habitLogFacade.checkHabit(userId, request(today.minusDays(day))).response().getId());
+        }
+
+        // 어제, 3일 전, 5일 전 취소 → 6일 전, 4일 전, 2일 전, 오늘만 남음
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int day : new int[]{1, 3, 5}) {
+            Long habitLogId = logIds.get(DAYS - 1 - day);
+            tasks.add(() -> {
+                habitLogFacade.cancelCheck(userId, habitLogId);
+                return null;
+            });
+        }
+
+        runConcurrently(tasks);
+
+        UserHabit userHabit = userHabitRepository.findById(userHabitId).orElseThrow();
+        assertThat(userHabit.getCurrentStreak()).isEqualTo(1);
+        assertThat(userHabit.getLongestStreak()).isEqualTo(1);
+        assertThat(userHabit.getLastCheckedDate()).isEqualTo(today);
+        assertThat(habitLogRepository.findCheckedDates(userHabitId, today.minusDays(DAYS - 1), today))
+                .containsExactlyInAnyOrder(today.minusDays(6), today.minusDays(4), today.minusDays(2), today);
+    }
+
+    @Test
+    @DisplayName("같은 날짜를 다른 체크 값으로 다시 보내면 기존 기록이 바뀌고 스트릭도 반영된다")
+    void resendWithDifferentCheckedUpdatesExistingLog() {
+        HabitLogService.CheckResult first = habitLogFacade.checkHabit(userId, request(today));
+        HabitLogCreateRequest uncheck = request(today);
+        ReflectionTestUtils.setField(uncheck, "checked", false);
+
+        HabitLogService.CheckResult second = habitLogFacade.checkHabit(userId, uncheck);
+
+        assertThat(first.created()).isTrue();
+        assertThat(second.created()).isFalse();
+        assertThat(second.response().getId()).isEqualTo(first.response().getId());
+        assertThat(second.response().isChecked()).isFalse();
+        assertThat(habitLogRepository.findByUserHabitIdAndDate(userHabitId, today).orElseThrow().isChecked())
+                .isFalse();
+        assertThat(userHabitRepository.findById(userHabitId).orElseThrow().getCurrentStreak()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 체크를 다시 보내도 단건 체크처럼 기존 기록을 그대로 돌려준다")
+    void bulkResendReturnsExistingLogs() {
+        HabitLogBulkCreateRequest bulk = new HabitLogBulkCreateRequest();
+        ReflectionTestUtils.setField(bulk, "items", List.of(request(today.minusDays(1)), request(today)));
+
+        HabitLogBulkResponse first = habitLogFacade.checkHabits(userId, bulk);
+        HabitLogBulkResponse second = habitLogFacade.checkHabits(userId, bulk);
+
+        assertThat(first.getSuccessCount()).isEqualTo(2);
+        assertThat(second.getSuccessCount()).isEqualTo(2);
+        assertThat(second.getResults()).extracting(result -> result.getLog().getId())
+                .containsExactlyElementsOf(first.getResults().stream().map(result -> result.getLog().getId()).toList());
+        assertThat(habitLogRepository.findCheckedDates(userHabitId, today.minusDays(1), today)).hasSize(2);
+        assertThat(userHabitRepository.findById(userHabitId).orElseThrow().getCurrentStreak()).isEqualTo(2);
+    }
+
+    /**
+     * 모든 작업을 동시에 출발시키고, 하나라도 실패하면 예외를 그대로 던진다.
+     */
+    private <T> void runConcurrently(List<Callable<T>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            for (Future<T> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private HabitLogCreateRequest request(LocalDate date) {
+        HabitLogCreateRequest request = new HabitLogCreateRequest();
+        ReflectionTestUtils.setField(request, "userHabitId", userHabitId);
+        ReflectionTestUtils.setField(request, "date", date);
+        return request;
+    }
+}
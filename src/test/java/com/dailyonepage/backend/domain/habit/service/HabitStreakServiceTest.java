@@ -0,0 +1,241 @@
+package com.dailyonepage.backend.domain.habit.service;
+
+import com.dailyonepage.backend.domain.habit.entity.HabitLogBitmap;
+import com.dailyonepage.backend.domain.habit.entity.UserHabit;
+import com.dailyonepage.backend.domain.habit.repository.HabitLogBitmapRepository;
+import com.dailyonepage.backend.domain.habit.repository.HabitLogRepository;
+import com.dailyonepage.backend.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스트릭 증분 계산 단위 테스트
+ *
+ * habit_log(체크 날짜 집합)와 연도 비트맵 저장소를 메모리로 대신하고,
+ * HabitLogService와 같은 순서로 비트맵 반영 → habit_log 변경 → 스트릭 계산을 호출한다.
+ */
+class HabitStreakServiceTest {
+
+    private static final Long USER_HABIT_ID = 10L;
+
+    private final TreeSet<LocalDate> checkedDates = new TreeSet<>();
+    private final Map<Integer, HabitLogBitmap> bitmaps = new HashMap<>();
+
+    private HabitLogBitmapService habitLogBitmapService;
+    private HabitStreakService habitStreakService;
+    private UserHabit userHabit;
+
+    @BeforeEach
+    void setUp() {
+        habitLogBitmapService = new HabitLogBitmapService(
+                bitmapRepository(bitmaps), logRepository(checkedDates), mock(PlatformTransactionManager.class));
+        habitStreakService = new HabitStreakService(habitLogBitmapService, mock(ApplicationEventPublisher.class));
+
+        User user = User.builder()
+                .email("streak@dailyonepage.com")
+                .password("encoded")
+                .nickname("streak")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        userHabit = UserHabit.builder().user(user).build();
+        ReflectionTestUtils.setField(userHabit, "id", USER_HABIT_ID);
+    }
+
+    @Test
+    @DisplayName("연속으로 체크하면 현재/최장 스트릭이 함께 늘어난다")
+    void consecutiveChecksExtendStreak() {
+        LocalDate today = LocalDate.of(2025, 3, 10);
+
+        check(today.minusDays(2), today);
+        check(today.minusDays(1), today);
+        check(today, today);
+
+        assertStreak(3, 3, today);
+    }
+
+    @Test
+    @DisplayName("빠진 날을 채우면 앞뒤 구간이 하나로 이어진다")
+    void gapFillJoinsLeftAndRightRuns() {
+        LocalDate today = LocalDate.of(2025, 3, 10);
+        check(today.minusDays(4), today);
+        check(today.minusDays(3), today);
+        check(today.minusDays(1), today);
+        check(today, today);
+        assertStreak(2, 2, today);
+
+        check(today.minusDays(2), today);
+
+        assertStreak(5, 5, today);
+    }
+
+    @Test
+    @DisplayName("오래된 구간에 체크를 더하면 최장만 바뀌고 현재 스트릭은 그대로다")
+    void checkInOlderRunKeepsCurrentStreak() {
+        LocalDate today = LocalDate.of(2025, 3, 10);
+        check(today.minusDays(10), today);
+        check(today.minusDays(8), today);
+        check(today, today);
+
+        check(today.minusDays(9), today);
+
+        assertStreak(1, 3, today);
+    }
+
+    @Test
+    @DisplayName("마지막 구간 중간을 취소하면 뒤쪽만 남고 최장은 다시 계산된다")
+    void uncheckInsideLastRunSplitsIt() {
+        LocalDate today = LocalDate.of(2025, 3, 10);
+        for (int day = 4; day >= 0; day--) {
+            check(today.minusDays(day), today);
+        }
+
+        uncheck(today.minusDays(2), today);
+
+        assertStreak(2, 2, today);
+    }
+
+    @Test
+    @DisplayName("마지막 체크를 취소하면 바로 앞 구간이 현재 스트릭이 된다")
+    void uncheckLastCheckFallsBackToPreviousRun() {
+        LocalDate today = LocalDate.of(2025, 3, 10);
+        check(today.minusDays(3), today);
+        check(today.minusDays(2), today);
+        check(today.minusDays(1), today);
+        check(today, today);
+
+        uncheck(today, today);
+
+        assertStreak(3, 3, today.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("떨어진 마지막 체크를 취소하면 이전 체크 날짜로 돌아가고, 끊긴 스트릭은 0이다")
+    void uncheckIsolatedLastCheckFallsBackToOlderDate() {
+        LocalDate today = LocalDate.of(2025, 3, 10);
+        check(today.minusDays(6), today);
+        check(today.minusDays(5), today);
+        check(today, today);
+
+        uncheck(today, today);
+
+        assertStreak(0, 2, today.minusDays(5));
+    }
+
+    @Test
+    @DisplayName("12월 31일과 1월 1일은 한 구간으로 이어진다")
+    void runContinuesAcrossYearBoundary() {
+        LocalDate today = LocalDate.of(2026, 1, 2);
+        check(LocalDate.of(2025, 12, 30), today);
+        check(LocalDate.of(2026, 1, 1), today);
+        check(today, today);
+        assertStreak(2, 2, today);
+
+        check(LocalDate.of(2025, 12, 31), today);
+
+        assertStreak(4, 4, today);
+    }
+
+    @Test
+    @DisplayName("연도 경계에 걸친 최장 구간을 취소로 끊으면 양쪽 중 긴 쪽이 최장이 된다")
+    void uncheckAcrossYearBoundaryRecomputesLongest() {
+        LocalDate today = LocalDate.of(2025, 1, 10);
+        for (LocalDate date = LocalDate.of(2024, 12, 28); !date.isAfter(LocalDate.of(2025, 1, 3)); date = date.plusDays(1)) {
+            check(date, today);
+        }
+        check(today, today);
+        assertStreak(1, 7, today);
+
+        uncheck(LocalDate.of(2025, 1, 1), today);
+
+        // 12/28~12/31 (4일) vs 1/2~1/3 (2일)
+        assertStreak(1, 4, today);
+    }
+
+    @Test
+    @DisplayName("스트릭 컬럼이 비어 있는 기록을 취소하면 남은 기록 전체로 다시 계산한다")
+    void uncheckWithoutLastCheckedDateRecomputes() {
+        LocalDate today = LocalDate.of(2025, 3, 10);
+        // 스트릭 계산 없이 쌓인 기록 (lastCheckedDate = null)
+        for (LocalDate date = today.minusDays(4); !date.isAfter(today); date = date.plusDays(1)) {
+            habitLogBitmapService.mark(userHabit, date, true);
+            checkedDates.add(date);
+        }
+        assertStreak(0, 0, null);
+
+        uncheck(today.minusDays(2), today);
+
+        // 3/6~3/7 (2일) | 3/9~3/10 (2일)
+        assertStreak(2, 2, today);
+    }
+
+    private void check(LocalDate date, LocalDate today) {
+        habitLogBitmapService.mark(userHabit, date, true);
+        checkedDates.add(date);
+        habitStreakService.onChecked(userHabit, date, today);
+    }
+
+    private void uncheck(LocalDate date, LocalDate today) {
+        habitLogBitmapService.mark(userHabit, date, false);
+        checkedDates.remove(date);
+        habitStreakService.onUnchecked(userHabit, date, today);
+    }
+
+    private void assertStreak(int current, int longest, LocalDate lastCheckedDate) {
+        assertThat(userHabit.getCurrentStreak()).isEqualTo(current);
+        assertThat(userHabit.getLongestStreak()).isEqualTo(longest);
+        assertThat(userHabit.getLastCheckedDate()).isEqualTo(lastCheckedDate);
+    }
+
+    /**
+     * habit_log 대신 체크 날짜 집합으로 응답
+     */
+    static HabitLogRepository logRepository(TreeSet<LocalDate> checkedDates) {
+        HabitLogRepository repository = mock(HabitLogRepository.class);
+        when(repository.findCheckedDates(anyLong(), any(), any())).thenAnswer(invocation -> List.copyOf(
+                checkedDates.subSet(invocation.getArgument(1), true, invocation.getArgument(2), true)));
+        when(repository.findFirstCheckedDate(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(checkedDates.isEmpty() ? null : checkedDates.first()));
+        when(repository.findLastCheckedDate(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(checkedDates.isEmpty() ? null : checkedDates.last()));
+        return repository;
+    }
+
+    /**
+     * 연도 비트맵 저장소를 Map으로 대신 (저장된 객체를 그대로 돌려주므로 변경이 유지됨)
+     */
+    @SuppressWarnings("unchecked")
+    static HabitLogBitmapRepository bitmapRepository(Map<Integer, HabitLogBitmap> bitmaps) {
+        HabitLogBitmapRepository repository = mock(HabitLogBitmapRepository.class);
+        when(repository.findByUserHabitIdAndYear(anyLong(), anyInt()))
+                .thenAnswer(invocation -> Optional.ofNullable(bitmaps.get((Integer) invocation.getArgument(1))));
+        when(repository.findByUserHabitIdAndYearBetween(anyLong(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> bitmaps.values().stream()
+                        .filter(bitmap -> bitmap.getYear() >= (Integer) invocation.getArgument(1)
+                                && bitmap.getYear() <= (Integer) invocation.getArgument(2))
+                        .toList());
+        when(repository.saveAll(any(Iterable.class))).thenAnswer(invocation -> {
+            Iterable<HabitLogBitmap> saved = invocation.getArgument(0);
+            saved.forEach(bitmap -> bitmaps.put(bitmap.getYear(), bitmap));
+            return saved;
+        });
+        return repository;
+    }
+}